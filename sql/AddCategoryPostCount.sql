@@ -0,0 +1,7 @@
+-- 카테고리별 게시글 수 비정규화 카운터 컬럼 추가
+ALTER TABLE community_categories
+    ADD COLUMN post_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 카운터 채우기
+UPDATE community_categories c
+SET c.post_count = (SELECT COUNT(*) FROM post_categories pc WHERE pc.category_id = c.id);
@@ -0,0 +1,15 @@
+-- 좋아요/댓글 비정규화 카운터 컬럼 추가
+ALTER TABLE community_posts
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+ALTER TABLE community_comments
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 카운터 채우기
+UPDATE community_posts p
+SET p.like_count = (SELECT COUNT(*) FROM community_post_likes l WHERE l.post_id = p.id),
+    p.comment_count = (SELECT COUNT(*) FROM community_comments c WHERE c.post_id = p.id);
+
+UPDATE community_comments c
+SET c.like_count = (SELECT COUNT(*) FROM community_comment_likes l WHERE l.comment_id = c.id);
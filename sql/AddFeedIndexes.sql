@@ -0,0 +1,8 @@
+-- 커서 기반 게시글 목록 조회용 인덱스
+CREATE INDEX idx_posts_created_at_id ON community_posts (created_at, id);
+CREATE INDEX idx_posts_view_count_id ON community_posts (view_count, id);
+CREATE INDEX idx_post_categories_category_post ON post_categories (category_id, post_id);
+
+-- 카테고리 커서 조회는 위 인덱스만으로 정렬 없이 처리
+--   최신순  : post_categories (category_id, post_id) 역순 범위 조회 (카테고리 내 최신순 = 게시글 ID 순)
+--   조회수순: community_posts (view_count, id) 역순 조회 + post_categories 로 카테고리 소속 확인
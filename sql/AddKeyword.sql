@@ -3,4 +3,6 @@ INSERT INTO community_categories (name) VALUES ('교육');
 
 INSERT INTO community_keywords (word, category_id, mapped_category_id)
 VALUES ('교육', 3, (SELECT id FROM community_categories WHERE name = '교육'));
--- category_id : (1=지역, 2=연령대, 3=직무)
\ No newline at end of file
+-- category_id : (1=지역, 2=연령대, 3=직무)
+-- 추가 후 POST /api/admin/keywords/reload 호출 시 즉시 반영 (미호출 시 10분 이내 자동 반영)
+-- 기존 게시글에도 반영하려면 POST /api/admin/keywords/recategorize 호출 (진행 상황은 GET 으로 조회)
@@ -0,0 +1,11 @@
+-- 목록 응답용 본문 앞부분 컬럼 추가 (목록 쿼리에서 TEXT 본문 조회 제거)
+ALTER TABLE community_posts
+    ADD COLUMN preview VARCHAR(200) NOT NULL DEFAULT '';
+
+-- 기존 데이터 채우기 (게시글이 많으면 id 구간을 나누어 반복 실행)
+UPDATE community_posts
+SET preview = LEFT(content, 200)
+WHERE preview = '';
+
+ALTER TABLE community_posts
+    ALTER COLUMN preview DROP DEFAULT;
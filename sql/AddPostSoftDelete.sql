@@ -0,0 +1,3 @@
+-- 대용량 게시글 백그라운드 삭제용 숨김 플래그
+ALTER TABLE community_posts
+    ADD COLUMN deleted BIT(1) NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 게시글 낙관적 잠금 및 ETag 용 버전 컬럼
+ALTER TABLE community_posts
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
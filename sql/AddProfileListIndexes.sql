@@ -0,0 +1,3 @@
+-- 내가 작성한 게시글 / 내가 댓글을 작성한 게시글 커서 조회용 인덱스
+CREATE INDEX idx_posts_author_created_at_id ON community_posts (author_id, created_at, id);
+CREATE INDEX idx_comments_author_post ON community_comments (author_id, post_id);
@@ -0,0 +1,15 @@
+-- 게시글 일괄 재분류 작업 진행 상황 (중단/장애 후 last_post_id 다음부터 재개)
+CREATE TABLE community_recategorize_jobs (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status        VARCHAR(20)   NOT NULL,
+    last_post_id  BIGINT        NOT NULL,
+    max_post_id   BIGINT        NOT NULL,
+    scanned_posts BIGINT        NOT NULL DEFAULT 0,
+    changed_posts BIGINT        NOT NULL DEFAULT 0,
+    added_links   BIGINT        NOT NULL DEFAULT 0,
+    removed_links BIGINT        NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000) NULL,
+    started_at    DATETIME(6)   NULL,
+    updated_at    DATETIME(6)   NULL,
+    finished_at   DATETIME(6)   NULL
+);
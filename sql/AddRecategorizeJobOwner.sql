@@ -0,0 +1,4 @@
+-- 게시글 일괄 재분류 작업 선점 정보 (여러 인스턴스가 같은 작업을 동시에 재개하지 않도록 조건부 UPDATE 로 선점)
+ALTER TABLE community_recategorize_jobs
+    ADD COLUMN owner        VARCHAR(100) NULL,
+    ADD COLUMN heartbeat_at DATETIME(6)  NULL;
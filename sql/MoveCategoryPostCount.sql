@@ -0,0 +1,16 @@
+-- 카테고리 게시글 수 카운터를 2차 캐시 대상인 community_categories 에서 별도 테이블로 분리
+-- (카운터 갱신마다 카테고리 캐시 영역이 무효화되지 않도록 함)
+CREATE TABLE community_category_post_counts (
+    category_id BIGINT NOT NULL PRIMARY KEY,
+    post_count  INT    NOT NULL DEFAULT 0,
+    CONSTRAINT fk_category_post_counts_category
+        FOREIGN KEY (category_id) REFERENCES community_categories (id) ON DELETE CASCADE
+);
+
+-- 기존 데이터 카운터 채우기 (컬럼 값 대신 실제 집계 사용)
+INSERT INTO community_category_post_counts (category_id, post_count)
+SELECT c.id, (SELECT COUNT(*) FROM post_categories pc WHERE pc.category_id = c.id)
+FROM community_categories c;
+
+ALTER TABLE community_categories
+    DROP COLUMN post_count;
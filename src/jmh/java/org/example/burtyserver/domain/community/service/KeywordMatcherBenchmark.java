@@ -0,0 +1,82 @@
+package org.example.burtyserver.domain.community.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 자동 분류 성능 비교
+ * 기존 방식(키워드마다 정규식 + contains)과 Aho-Corasick 매처를 키워드 1k~10k 개에서 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatcherBenchmark {
+
+    @Param({"1000", "5000", "10000"})
+    private int keywordCount;
+
+    @Param({"500", "5000"})
+    private int contentLength;
+
+    private List<KeywordMatcher.Entry> entries;
+    private KeywordMatcher matcher;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            entries.add(new KeywordMatcher.Entry((long) i, randomHangul(random, 2 + random.nextInt(3)), "직무", (long) (i % 20)));
+        }
+        matcher = KeywordMatcher.build(entries);
+
+        StringBuilder builder = new StringBuilder(contentLength);
+        while (builder.length() < contentLength) {
+            // 본문 중간중간 실제 키워드를 섞어 매칭이 발생하도록 구성
+            if (random.nextInt(10) == 0) {
+                builder.append(entries.get(random.nextInt(keywordCount)).getWord());
+            } else {
+                builder.append(randomHangul(random, 1 + random.nextInt(4)));
+            }
+            builder.append(' ');
+        }
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public void legacyRegexPerKeyword(Blackhole blackhole) {
+        String fullText = content.toLowerCase();
+        for (KeywordMatcher.Entry entry : entries) {
+            String keywordText = entry.getWord().toLowerCase();
+            if (fullText.matches(".*\\b" + keywordText + ".*") || fullText.contains(keywordText)) {
+                blackhole.consume(entry.getMappedCategoryId());
+            }
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasickSinglePass(Blackhole blackhole) {
+        for (KeywordMatcher.Entry entry : matcher.match(content)) {
+            blackhole.consume(entry.getMappedCategoryId());
+        }
+    }
+
+    @Benchmark
+    public KeywordMatcher rebuildAutomaton() {
+        return KeywordMatcher.build(entries);
+    }
+
+    private static String randomHangul(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('가' + random.nextInt(11172)));
+        }
+        return builder.toString();
+    }
+}
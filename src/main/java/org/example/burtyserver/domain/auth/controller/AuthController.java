@@ -12,8 +12,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.burtyserver.domain.auth.dto.AuthResponse;
 import org.example.burtyserver.domain.auth.service.AuthService;
-import org.example.burtyserver.domain.user.model.entity.User;
-import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
 import org.example.burtyserver.global.security.CurrentUser;
 import org.example.burtyserver.global.security.UserPrincipal;
 import org.springframework.http.ResponseEntity;
@@ -35,7 +35,7 @@ import java.util.Map;
 @Tag(name="인증", description = "사용자 인증 관련 API")
 public class AuthController {
 
-    private final UserRepository userRepository;  // 사용자 정보 조회를 위한 리포지토리
+    private final UserSnapshotCache userSnapshotCache;  // 사용자 정보 조회를 위한 캐시
     private final AuthService authService;
 
     /**
@@ -53,7 +53,7 @@ public class AuthController {
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(@CurrentUser UserPrincipal userPrincipal) {
         // 사용자 ID로 상세 정보 조회
-        User user = userRepository.findById(userPrincipal.getId())
+        UserSnapshot user = userSnapshotCache.find(userPrincipal.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // AuthResponse DTO 생성하여 반환
@@ -7,9 +7,11 @@ import lombok.RequiredArgsConstructor;
 import org.example.burtyserver.domain.community.model.dto.BoardCategoryDto;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
 import org.example.burtyserver.domain.community.service.BoardCategoryService;
+import org.example.burtyserver.domain.community.service.ContentVersions;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.Map;
 @Tag(name = "커뮤니티 카테고리", description = "게시판 카테고리 관련 API")
 public class BoardCategoryController {
     private final BoardCategoryService boardCategoryService;
+    private final ContentVersions contentVersions;
 
     /**
      * 카테고리 생성 API
@@ -94,12 +97,15 @@ public class BoardCategoryController {
     @GetMapping
     @Operation(
             summary = "카테고리 목록 조회",
-            description = "모든 카테고리 목록을 조회합니다",
+            description = "모든 카테고리 목록을 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<List<BoardCategoryDto.Response>> getAllCategories() {
+    public ResponseEntity<List<BoardCategoryDto.Response>> getAllCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(contentVersions.categoriesTag())) {
+            return null;
+        }
         List<BoardCategoryDto.Response> categories = boardCategoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(categories);
     }
 
     /**
@@ -108,12 +114,15 @@ public class BoardCategoryController {
     @GetMapping("/{categoryId}")
     @Operation(
             summary = "카테고리 상세 조회",
-            description = "특정 카테고리의 상세 정보를 조회합니다",
+            description = "특정 카테고리의 상세 정보를 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<BoardCategoryDto.Response> getCategoryById(@PathVariable Long categoryId) {
+    public ResponseEntity<BoardCategoryDto.Response> getCategoryById(@PathVariable Long categoryId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(contentVersions.categoriesTag())) {
+            return null;
+        }
         BoardCategoryDto.Response category = boardCategoryService.getCategoryById(categoryId);
-        return ResponseEntity.ok(category);
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(category);
     }
 
 }
@@ -5,13 +5,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.burtyserver.domain.community.model.dto.CommentDto;
+import org.example.burtyserver.domain.community.model.dto.CursorPage;
 import org.example.burtyserver.domain.community.model.dto.PostDto;
 import org.example.burtyserver.domain.community.model.entity.Comment;
 import org.example.burtyserver.domain.community.service.CommentService;
+import org.example.burtyserver.domain.community.service.ContentVersions;
 import org.example.burtyserver.global.security.CurrentUser;
 import org.example.burtyserver.global.security.UserPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.nio.file.AccessDeniedException;
 import java.util.HashMap;
@@ -27,6 +30,7 @@ import java.util.Map;
 @Tag(name = "커뮤니티 댓글", description = "댓글 관련 API")
 public class CommentController {
     private final CommentService commentService;
+    private final ContentVersions contentVersions;
 
     /**
      * 댓글 작성 API
@@ -106,15 +110,21 @@ public class CommentController {
     @GetMapping
     @Operation(
             summary = "게시글별 댓글 목록 조회",
-            description = "특정 게시글의 댓글 목록을 조회합니다",
+            description = "특정 게시글의 댓글 목록을 작성순으로 조회합니다. 응답의 nextCursor(또는 게시글 상세의 commentCursor)를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<List<CommentDto.Response>> getCommentsByPost(
+    public ResponseEntity<CursorPage<CommentDto.Response>> getCommentsByPost(
             @CurrentUser UserPrincipal userPrincipal,
-            @PathVariable Long postId
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
     ) {
-        List<CommentDto.Response> comments = commentService.getCommentsByPost(postId, userPrincipal.getId());
-        return ResponseEntity.ok(comments);
+        if (webRequest.checkNotModified(contentVersions.commentsTag(postId, userPrincipal.getId()))) {
+            return null;
+        }
+        CursorPage<CommentDto.Response> comments = commentService.getCommentsByPost(postId, cursor, size, userPrincipal.getId());
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(comments);
     }
 
     /**
@@ -123,13 +133,15 @@ public class CommentController {
     @GetMapping("/commented-by-me")
     @Operation(
             summary = "내가 댓글을 작성한 게시글 목록 조회",
-            description = "현재 로그인한 사용자가 댓글을 작성한 게시글 목록을 조회합니다",
+            description = "현재 로그인한 사용자가 댓글을 작성한 게시글 목록을 게시글 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<List<PostDto.ListResponse>> getPostsCommentedByMe(
-            @CurrentUser UserPrincipal userPrincipal
+    public ResponseEntity<CursorPage<PostDto.ListResponse>> getPostsCommentedByMe(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
     ) {
-        List<PostDto.ListResponse> posts = commentService.getPostsCommentedByUser(userPrincipal.getId());
+        CursorPage<PostDto.ListResponse> posts = commentService.getPostsCommentedByUser(userPrincipal.getId(), cursor, size);
         return ResponseEntity.ok(posts);
     }
 }
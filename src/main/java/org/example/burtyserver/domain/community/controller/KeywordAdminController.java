@@ -0,0 +1,112 @@
+package org.example.burtyserver.domain.community.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.RecategorizationDto;
+import org.example.burtyserver.domain.community.service.KeywordExtractionService;
+import org.example.burtyserver.domain.community.service.PostRecategorizationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 커뮤니티 키워드 관리 API 컨트롤러 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/keywords")
+@RequiredArgsConstructor
+@Tag(name = "커뮤니티 키워드 관리", description = "키워드 사전 관리 API (관리자 전용)")
+public class KeywordAdminController {
+    private final KeywordExtractionService keywordExtractionService;
+    private final PostRecategorizationService postRecategorizationService;
+
+    /**
+     * 키워드 매처 재생성 API
+     */
+    @PostMapping("/reload")
+    @Operation(
+            summary = "키워드 매처 재생성",
+            description = "키워드 캐시를 비우고 community_keywords 테이블을 다시 읽어 자동 분류용 키워드 매처를 재생성합니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> reloadKeywords() {
+        int keywordCount = keywordExtractionService.refreshKeywords();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "키워드 매처가 재생성되었습니다.");
+        response.put("keywordCount", keywordCount);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 일괄 재분류 시작 API
+     */
+    @PostMapping("/recategorize")
+    @Operation(
+            summary = "게시글 일괄 재분류 시작",
+            description = "키워드 매처를 재생성한 뒤 전체 게시글의 카테고리를 백그라운드에서 다시 분류합니다. " +
+                    "중단/실패한 작업이 있으면 마지막 처리 지점부터 재개하며, restart=true 면 처음부터 시작합니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> startRecategorization(
+            @RequestParam(defaultValue = "false") boolean restart) {
+        Optional<RecategorizationDto.Progress> started = postRecategorizationService.start(restart);
+
+        Map<String, Object> response = new HashMap<>();
+        if (started.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "이미 실행 중인 재분류 작업이 있습니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("success", true);
+        response.put("message", "게시글 일괄 재분류가 시작되었습니다.");
+        response.put("job", started.get());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 일괄 재분류 진행 상황 조회 API
+     */
+    @GetMapping("/recategorize")
+    @Operation(
+            summary = "게시글 일괄 재분류 진행 상황 조회",
+            description = "가장 최근 재분류 작업의 상태, 처리 지점, 변경 건수를 조회합니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<RecategorizationDto.Progress> getRecategorizationProgress() {
+        return ResponseEntity.ok(postRecategorizationService.getProgress());
+    }
+
+    /**
+     * 게시글 일괄 재분류 중단 API
+     */
+    @DeleteMapping("/recategorize")
+    @Operation(
+            summary = "게시글 일괄 재분류 중단",
+            description = "실행 중인 재분류 작업을 처리 중인 청크까지 기록한 뒤 중단합니다. 다시 시작하면 중단 지점부터 재개합니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> stopRecategorization() {
+        boolean stopped = postRecategorizationService.stop();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", stopped);
+        response.put("message", stopped ? "재분류 작업 중단을 요청했습니다." : "실행 중인 재분류 작업이 없습니다.");
+
+        return ResponseEntity.ok(response);
+    }
+}
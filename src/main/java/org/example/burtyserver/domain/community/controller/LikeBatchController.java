@@ -0,0 +1,51 @@
+package org.example.burtyserver.domain.community.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.LikeDto;
+import org.example.burtyserver.domain.community.service.LikeBatchService;
+import org.example.burtyserver.global.security.CurrentUser;
+import org.example.burtyserver.global.security.UserPrincipal;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 일괄 처리 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/community/likes")
+@RequiredArgsConstructor
+@Tag(name = "좋아요 일괄 처리", description = "게시글/댓글 좋아요 일괄 변경 API")
+public class LikeBatchController {
+    private final LikeBatchService likeBatchService;
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "좋아요 일괄 변경",
+            description = "게시글/댓글 좋아요 상태 변경을 한 번에 적용합니다. liked=true는 좋아요, false는 좋아요 취소이며 " +
+                    "같은 대상이 여러 번 포함되면 마지막 요청만 적용됩니다. (최대 100건)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> applyBatch(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestBody LikeDto.BatchRequest request
+    ) {
+        List<LikeDto.ToggleResponse> results = likeBatchService.applyAll(userPrincipal.getId(), request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "좋아요 변경이 적용되었습니다.");
+        response.put("results", results);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.burtyserver.domain.community.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.service.LiveStreamHub;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * 새 게시글/댓글 실시간 스트림(SSE) API 컨트롤러
+ * 알림에는 게시글/댓글 ID 만 포함되며, 클라이언트는 알림을 받은 뒤 목록/상세를 다시 조회
+ */
+@RestController
+@RequestMapping("/api/community/stream")
+@RequiredArgsConstructor
+@Tag(name = "커뮤니티 실시간 스트림", description = "새 게시글/댓글 SSE 스트림 API")
+public class LiveStreamController {
+    private final LiveStreamHub liveStreamHub;
+
+    /**
+     * 전체 새 게시글 스트림 API
+     */
+    @GetMapping(value = "/posts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "새 게시글 스트림",
+            description = "새 게시글이 등록되면 POST_CREATED 이벤트를 전송합니다. 전송이 밀려 알림이 유실되면 RESYNC 이벤트를 전송한 뒤 연결을 종료하므로 재연결 후 목록을 다시 조회해야 합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<SseEmitter> streamPosts() {
+        return toResponse(liveStreamHub.subscribePosts());
+    }
+
+    /**
+     * 카테고리 새 게시글 스트림 API
+     */
+    @GetMapping(value = "/categories/{categoryId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "카테고리 새 게시글 스트림",
+            description = "카테고리에 새 게시글이 등록되면 POST_CREATED 이벤트를 전송합니다. 전송이 밀려 알림이 유실되면 RESYNC 이벤트를 전송한 뒤 연결을 종료하므로 재연결 후 목록을 다시 조회해야 합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<SseEmitter> streamCategory(@PathVariable Long categoryId) {
+        return toResponse(liveStreamHub.subscribeCategory(categoryId));
+    }
+
+    /**
+     * 게시글 새 댓글 스트림 API
+     */
+    @GetMapping(value = "/posts/{postId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "게시글 새 댓글 스트림",
+            description = "게시글에 새 댓글이 등록되면 COMMENT_CREATED 이벤트를 전송합니다. 전송이 밀려 알림이 유실되면 RESYNC 이벤트를 전송한 뒤 연결을 종료하므로 재연결 후 목록을 다시 조회해야 합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<SseEmitter> streamPost(@PathVariable Long postId) {
+        return toResponse(liveStreamHub.subscribePost(postId));
+    }
+
+    private ResponseEntity<SseEmitter> toResponse(Optional<SseEmitter> emitter) {
+        // 구독자 수 제한을 넘으면 클라이언트가 폴링으로 대체하도록 503 응답
+        return emitter.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
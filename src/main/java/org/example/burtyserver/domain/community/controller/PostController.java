@@ -4,8 +4,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.CursorPage;
+import org.example.burtyserver.domain.community.model.dto.FeedSort;
 import org.example.burtyserver.domain.community.model.dto.PostDto;
 import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.service.ContentVersions;
 import org.example.burtyserver.domain.community.service.PostService;
 import org.example.burtyserver.global.security.CurrentUser;
 import org.example.burtyserver.global.security.UserPrincipal;
@@ -15,6 +18,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.nio.file.AccessDeniedException;
 import java.util.HashMap;
@@ -27,6 +31,7 @@ import java.util.Map;
 @Tag(name = "커뮤니티 게시글", description = "게시글 관련 API")
 public class PostController {
     private final PostService postService;
+    private final ContentVersions contentVersions;
 
     /**
      * 게시글 작성 API
@@ -103,15 +108,21 @@ public class PostController {
     @GetMapping("/{postId}")
     @Operation(
             summary = "게시글 상세 조회",
-            description = "게시글 상세 정보와 댓글을 조회합니다",
+            description = "게시글 상세 정보와 댓글을 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     public ResponseEntity<PostDto.DetailResponse> getPostDetail(
             @CurrentUser UserPrincipal userPrincipal,
-            @PathVariable Long postId
+            @PathVariable Long postId,
+            WebRequest webRequest
     ) {
+        String eTag = postService.getPostDetailETag(postId, userPrincipal.getId());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            postService.recordView(postId);
+            return null;
+        }
         PostDto.DetailResponse post = postService.getPostDetail(postId, userPrincipal.getId());
-        return ResponseEntity.ok(post);
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(post);
     }
 
     /**
@@ -120,15 +131,19 @@ public class PostController {
     @GetMapping
     @Operation(
             summary = "게시글 목록 조회",
-            description = "게시글 목록을 조회합니다. sort 파라미터를 통해 정렬 방식을 지정할 수 있습니다(예: sort=createdAt,desc 또는 sort=viewCount,desc). sort 값이 하나일 경우 []를 삭제해주세요.",
+            description = "게시글 목록을 조회합니다. sort 파라미터를 통해 정렬 방식을 지정할 수 있습니다(예: sort=createdAt,desc 또는 sort=viewCount,desc). sort 값이 하나일 경우 []를 삭제해주세요. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     public ResponseEntity<Page<PostDto.ListResponse>> getPosts(
             @CurrentUser UserPrincipal userPrincipal,
-            @PageableDefault(size = 10) Pageable pageable
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(contentVersions.feedTag(null, userPrincipal.getId()))) {
+            return null;
+        }
         Page<PostDto.ListResponse> posts = postService.getPosts(pageable, userPrincipal.getId());
-        return ResponseEntity.ok(posts);
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(posts);
     }
 
     /**
@@ -138,15 +153,120 @@ public class PostController {
     @Operation(
             summary = "카테고리별 게시글 목록 조회",
             description = "특정 카테고리의 게시글 목록을 조회합니다. sort 파라미터를 통해 정렬 방식을 지정할 수 있습니다(예: sort=createdAt,desc 또는 sort=viewCount,desc). " +
-                    "\nsort 값이 하나일 경우 []를 삭제해주세요.",
+                    "\nsort 값이 하나일 경우 []를 삭제해주세요. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     public ResponseEntity<Page<PostDto.ListResponse>> getPostsByCategory(
             @PathVariable Long categoryId,
             @CurrentUser UserPrincipal userPrincipal,
-            @PageableDefault(size = 10) Pageable pageable
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(contentVersions.feedTag(categoryId, userPrincipal.getId()))) {
+            return null;
+        }
         Page<PostDto.ListResponse> posts = postService.getPostsByCategory(categoryId, userPrincipal.getId(), pageable);
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(posts);
+    }
+
+    /**
+     * 게시글 목록 커서 기반 조회 API
+     */
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "게시글 목록 커서 기반 조회",
+            description = "무한 스크롤용 게시글 목록을 조회합니다. sort는 latest 또는 views이며, 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<CursorPage<PostDto.ListResponse>> scrollPosts(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(contentVersions.feedTag(null, userPrincipal.getId()))) {
+            return null;
+        }
+        CursorPage<PostDto.ListResponse> posts = postService.scrollPosts(FeedSort.from(sort), cursor, size, userPrincipal.getId());
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(posts);
+    }
+
+    /**
+     * 카테고리별 게시글 목록 커서 기반 조회 API
+     */
+    @GetMapping("/category/{categoryId}/scroll")
+    @Operation(
+            summary = "카테고리별 게시글 목록 커서 기반 조회",
+            description = "특정 카테고리의 게시글 목록을 무한 스크롤용으로 조회합니다. sort는 latest 또는 views이며, 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 304를 반환합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<CursorPage<PostDto.ListResponse>> scrollPostsByCategory(
+            @PathVariable Long categoryId,
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(contentVersions.feedTag(categoryId, userPrincipal.getId()))) {
+            return null;
+        }
+        CursorPage<PostDto.ListResponse> posts = postService.scrollPostsByCategory(
+                categoryId, FeedSort.from(sort), cursor, size, userPrincipal.getId());
+        return ResponseEntity.ok().cacheControl(ContentVersions.REVALIDATE).body(posts);
+    }
+
+    /**
+     * 게시글 검색 API
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "게시글 검색",
+            description = "게시글 내용에서 검색어를 찾아 관련도순으로 조회합니다. 한글은 2~3글자 단위로 부분 일치 검색되며, 한 글자 한글 검색어나 검색 색인 준비 중에는 검색어를 포함한 게시글을 최신순으로 조회합니다. sort 파라미터는 무시됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<Page<PostDto.ListResponse>> searchPosts(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam String q,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        Page<PostDto.ListResponse> posts = postService.searchPosts(q, pageable, userPrincipal.getId());
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 인기 게시글 목록 조회 API
+     */
+    @GetMapping("/hot")
+    @Operation(
+            summary = "인기 게시글 목록 조회",
+            description = "조회수, 좋아요, 댓글 수와 작성 시각을 반영한 인기순으로 최근 게시글을 조회합니다. sort 파라미터는 무시됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<Page<PostDto.ListResponse>> getHotPosts(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        Page<PostDto.ListResponse> posts = postService.getHotPosts(pageable, userPrincipal.getId());
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 카테고리별 인기 게시글 목록 조회 API
+     */
+    @GetMapping("/category/{categoryId}/hot")
+    @Operation(
+            summary = "카테고리별 인기 게시글 목록 조회",
+            description = "특정 카테고리의 최근 게시글을 인기순으로 조회합니다. sort 파라미터는 무시됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<Page<PostDto.ListResponse>> getHotPostsByCategory(
+            @PathVariable Long categoryId,
+            @CurrentUser UserPrincipal userPrincipal,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        Page<PostDto.ListResponse> posts = postService.getHotPostsByCategory(categoryId, pageable, userPrincipal.getId());
         return ResponseEntity.ok(posts);
     }
 
@@ -156,13 +276,34 @@ public class PostController {
     @GetMapping("/my")
     @Operation(
             summary = "내가 작성한 게시글 목록 조회",
-            description = "현재 로그인한 사용자가 작성한 게시글 목록을 조회합니다",
+            description = "현재 로그인한 사용자가 작성한 게시글 목록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
-    public ResponseEntity<List<PostDto.ListResponse>> getMyPosts(
-            @CurrentUser UserPrincipal userPrincipal
+    public ResponseEntity<CursorPage<PostDto.ListResponse>> getMyPosts(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPage<PostDto.ListResponse> posts = postService.getPostsByUser(
+                userPrincipal.getId(), cursor, size, userPrincipal.getId());
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 맞춤 게시글 목록 조회 API
+     */
+    @GetMapping("/for-me")
+    @Operation(
+            summary = "맞춤 게시글 목록 조회",
+            description = "프로필의 지역, 직무, 연령대와 관련된 카테고리의 게시글을 최신순으로 조회합니다. 프로필이 비어 있으면 빈 목록을 반환합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<CursorPage<PostDto.ListResponse>> getPostsForMe(
+            @CurrentUser UserPrincipal userPrincipal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
     ) {
-        List<PostDto.ListResponse> posts = postService.getPostsByUser(userPrincipal.getId(), userPrincipal.getId());
+        CursorPage<PostDto.ListResponse> posts = postService.getPostsForMe(userPrincipal.getId(), cursor, size);
         return ResponseEntity.ok(posts);
     }
 
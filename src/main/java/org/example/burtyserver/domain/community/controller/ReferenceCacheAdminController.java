@@ -0,0 +1,63 @@
+package org.example.burtyserver.domain.community.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.service.ReferenceDataCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카테고리/키워드 2차 캐시 관리 API 컨트롤러 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/cache/reference")
+@RequiredArgsConstructor
+@Tag(name = "커뮤니티 캐시 관리", description = "카테고리/키워드 2차 캐시 관리 API (관리자 전용)")
+public class ReferenceCacheAdminController {
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * 캐시 통계 조회 API
+     */
+    @GetMapping("/stats")
+    @Operation(
+            summary = "캐시 통계 조회",
+            description = "카테고리/키워드/키워드 유형 및 쿼리 캐시 영역별 적중/실패 통계를 조회합니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> getStatistics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("statistics", referenceDataCache.statistics());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 캐시 비우기 API
+     */
+    @DeleteMapping
+    @Operation(
+            summary = "캐시 비우기",
+            description = "SQL 로 직접 변경한 카테고리/키워드를 반영하도록 2차 캐시를 비웁니다. (관리자 전용)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<?> evict() {
+        referenceDataCache.evictCategories();
+        referenceDataCache.evictKeywords();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "카테고리/키워드 캐시를 비웠습니다.");
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.burtyserver.domain.community.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.KeywordTrendDto;
+import org.example.burtyserver.domain.community.service.TrendingKeywordTracker;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 키워드 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/community/keywords")
+@RequiredArgsConstructor
+@Tag(name = "커뮤니티 인기 키워드", description = "최근 게시글 기준 인기 키워드 API")
+public class TrendingKeywordController {
+    private static final int MAX_LIMIT = 50;
+
+    private final TrendingKeywordTracker trendingKeywordTracker;
+
+    /**
+     * 키워드 유형별 인기 키워드 조회 API
+     */
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 키워드 조회",
+            description = "최근 1시간(1h) 또는 24시간(24h) 동안 작성된 게시글에 많이 등장한 키워드를 키워드 유형(지역, 연령대, 직무)별로 조회합니다."
+    )
+    public ResponseEntity<?> getTrendingKeywords(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Map<String, List<KeywordTrendDto.Response>> keywords =
+                trendingKeywordTracker.trending(KeywordTrendDto.Window.from(window), type, pageSize);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("window", window);
+        response.put("keywords", keywords);
+
+        return ResponseEntity.ok(response);
+    }
+}
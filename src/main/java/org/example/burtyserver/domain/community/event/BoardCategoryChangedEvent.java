@@ -0,0 +1,13 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class BoardCategoryChangedEvent {
+    private final Long categoryId;
+}
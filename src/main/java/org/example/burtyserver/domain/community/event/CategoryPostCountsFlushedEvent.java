@@ -0,0 +1,16 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 버퍼에 누적된 카테고리 게시글 수 증감이 DB에 반영된 후 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryPostCountsFlushedEvent {
+    // 카테고리 ID -> 이번 주기에 반영된 게시글 수 증감
+    private final Map<Long, Long> postCountDeltas;
+}
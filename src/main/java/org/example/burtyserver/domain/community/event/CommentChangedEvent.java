@@ -0,0 +1,24 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 수정/좋아요 변동 이벤트
+ * 작성/삭제는 PostInteractionEvent 로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    public enum Type {
+        UPDATED,
+        LIKED,
+        UNLIKED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final Long commentId;
+    // 수정하거나 좋아요를 누른 사용자 ID
+    private final Long userId;
+}
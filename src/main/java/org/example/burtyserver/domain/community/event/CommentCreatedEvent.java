@@ -0,0 +1,14 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 작성 이벤트 (실시간 스트림 알림용)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+    private final Long postId;
+    private final Long commentId;
+}
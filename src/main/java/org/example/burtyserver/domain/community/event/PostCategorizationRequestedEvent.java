@@ -0,0 +1,14 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 없이 저장된 게시글의 비동기 분류 요청 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostCategorizationRequestedEvent {
+    private final Long postId;
+    private final String content;
+}
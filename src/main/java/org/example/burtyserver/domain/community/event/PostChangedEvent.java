@@ -0,0 +1,31 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 게시글 생성/수정/삭제/카테고리 분류 이벤트
+ * 트랜잭션 커밋 후 캐시 무효화 등 후속 처리에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // 비동기 카테고리 분류 완료 (내용은 변경 없음)
+        CATEGORIZED
+    }
+
+    private final Type type;
+    private final Long postId;
+    // 영향을 받는 카테고리 ID (수정 시 변경 전/후 합집합)
+    private final Set<Long> categoryIds;
+    // 변경 후 게시글이 속한 카테고리 ID (삭제 시 빈 집합)
+    private final Set<Long> currentCategoryIds;
+    // 변경 후 게시글 내용 (삭제 시 null)
+    private final String content;
+}
@@ -0,0 +1,23 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요/댓글 변동 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostInteractionEvent {
+    public enum Type {
+        LIKED,
+        UNLIKED,
+        COMMENTED,
+        UNCOMMENTED
+    }
+
+    private final Type type;
+    private final Long postId;
+    // 좋아요/댓글을 남긴 사용자 ID
+    private final Long userId;
+}
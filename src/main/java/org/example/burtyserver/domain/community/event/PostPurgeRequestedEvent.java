@@ -0,0 +1,13 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 숨김 처리된 게시글의 백그라운드 삭제 요청 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostPurgeRequestedEvent {
+    private final Long postId;
+}
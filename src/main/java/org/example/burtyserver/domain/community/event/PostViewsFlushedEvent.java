@@ -0,0 +1,16 @@
+package org.example.burtyserver.domain.community.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 버퍼에 누적된 조회수가 DB에 반영된 후 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewsFlushedEvent {
+    // 게시글 ID -> 이번 주기에 반영된 조회수 증가분
+    private final Map<Long, Long> viewDeltas;
+}
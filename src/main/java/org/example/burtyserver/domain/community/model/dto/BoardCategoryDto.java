@@ -33,11 +33,11 @@ public class BoardCategoryDto {
         private String name;
         private int postCount;
 
-        public static Response from(BoardCategory boardCategory) {
+        public static Response from(BoardCategory boardCategory, int postCount) {
             return Response.builder()
                     .id(boardCategory.getId())
                     .name(boardCategory.getName())
-                    .postCount(boardCategory.getPosts().size())
+                    .postCount(postCount)
                     .build();
         }
     }
@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.burtyserver.domain.community.model.entity.Comment;
-import org.example.burtyserver.domain.user.model.entity.User;
 
 import java.time.LocalDateTime;
 
@@ -43,7 +42,10 @@ public class CommentDto {
         private int likeCount;
         private boolean liked;
 
-        public static Response from(Comment comment, User currentUser) {
+        /**
+         * 좋아요 여부는 LikeStatusResolver 로 목록 단위 일괄 조회 후 전달 (likes 컬렉션을 로딩하지 않음)
+         */
+        public static Response of(Comment comment, Long currentUserId, boolean liked) {
             return Response.builder()
                     .id(comment.getId())
                     .content(comment.getContent())
@@ -52,9 +54,9 @@ public class CommentDto {
                     .authorImageUrl(comment.getAuthor().getProfileImageUrl())
                     .createdAt(comment.getCreatedAt())
                     .updatedAt(comment.getUpdatedAt())
-                    .isAuthor(currentUser != null && comment.getAuthor().getId().equals(currentUser.getId()))
+                    .isAuthor(comment.getAuthor().getId().equals(currentUserId))
                     .likeCount(comment.getLikeCount())
-                    .liked(currentUser != null && comment.isLikedByUser(currentUser))
+                    .liked(liked)
                     .build();
         }
     }
@@ -0,0 +1,20 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 응답 DTO
+ * 전체 개수 대신 다음 페이지 조회용 불투명 커서를 반환
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
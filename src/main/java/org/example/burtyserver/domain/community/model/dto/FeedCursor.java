@@ -0,0 +1,62 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.burtyserver.global.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서
+ * 마지막 행의 정렬 키와 ID를 담아 URL-safe Base64 문자열로 인코딩
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor {
+    private static final String DELIMITER = "|";
+
+    private final FeedSort sort;
+    private final LocalDateTime createdAt;
+    private final Long viewCount;
+    private final Long id;
+
+    /**
+     * 페이지의 마지막 행으로부터 다음 페이지 커서 생성
+     */
+    public static FeedCursor of(FeedSort sort, PostFeedRow lastRow) {
+        return new FeedCursor(sort, lastRow.getCreatedAt(), lastRow.getViewCount(), lastRow.getId());
+    }
+
+    public String encode() {
+        String sortKey = (sort == FeedSort.LATEST) ? createdAt.toString() : String.valueOf(viewCount);
+        String raw = sort.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (형식이 잘못되었거나 요청한 정렬 방식과 다르면 InvalidCursorException)
+     */
+    public static FeedCursor decode(String cursor, FeedSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            FeedSort sort = FeedSort.valueOf(parts[0]);
+            if (parts.length != 3 || sort != expectedSort) {
+                throw new InvalidCursorException();
+            }
+
+            Long id = Long.parseLong(parts[2]);
+            if (sort == FeedSort.LATEST) {
+                return new FeedCursor(sort, LocalDateTime.parse(parts[1]), null, id);
+            }
+            return new FeedCursor(sort, null, Long.parseLong(parts[1]), id);
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+}
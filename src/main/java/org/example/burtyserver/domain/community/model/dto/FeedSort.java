@@ -0,0 +1,25 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import org.example.burtyserver.global.exception.InvalidSortException;
+
+/**
+ * 커서 기반 게시글 목록 정렬 방식
+ */
+public enum FeedSort {
+    LATEST,  // 최신순 (createdAt, id)
+    VIEWS;   // 조회수순 (viewCount, id)
+
+    /**
+     * 요청 파라미터 값으로부터 정렬 방식 조회 (대소문자 무시)
+     *
+     * @throws InvalidSortException 지원하지 않는 값이면 400 응답
+     */
+    public static FeedSort from(String value) {
+        for (FeedSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new InvalidSortException(value);
+    }
+}
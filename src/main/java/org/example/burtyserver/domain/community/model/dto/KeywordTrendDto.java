@@ -0,0 +1,52 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 인기 키워드 관련 DTO 클래스 모음
+ */
+public class KeywordTrendDto {
+    /**
+     * 집계 기간
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Window {
+        HOUR("1h", Duration.ofHours(1)),
+        DAY("24h", Duration.ofHours(24));
+
+        private final String label;
+        private final Duration length;
+
+        /**
+         * 요청 파라미터 값(1h, 24h)으로부터 집계 기간 조회
+         */
+        public static Window from(String value) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(value)) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + value);
+        }
+    }
+
+    /**
+     * 인기 키워드 응답 DTO
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Long keywordId;
+        private String word;
+        private String keywordType;  // 지역, 연령대, 직무
+        private long count;          // 기간 내 키워드가 포함된 게시글 수
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좋아요 관련 DTO 클래스 모음
+ */
+public class LikeDto {
+    /**
+     * 좋아요 대상 종류
+     */
+    public enum TargetType {
+        POST,
+        COMMENT
+    }
+
+    /**
+     * 좋아요 상태 적용 결과
+     */
+    public enum Result {
+        CHANGED,    // 상태가 변경됨
+        UNCHANGED,  // 이미 요청한 상태
+        NOT_FOUND   // 대상이 존재하지 않음
+    }
+
+    /**
+     * 좋아요 상태 변경 요청 한 건
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Toggle {
+        private TargetType targetType;
+        private Long targetId;
+        private boolean liked; // true: 좋아요, false: 좋아요 취소
+    }
+
+    /**
+     * 좋아요 일괄 변경 요청 DTO
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BatchRequest {
+        private List<Toggle> toggles;
+    }
+
+    /**
+     * 좋아요 상태 변경 결과 DTO
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ToggleResponse {
+        private TargetType targetType;
+        private Long targetId;
+        private boolean liked;
+        private Result result;
+    }
+}
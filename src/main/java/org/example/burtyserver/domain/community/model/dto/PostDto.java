@@ -6,10 +6,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
 import org.example.burtyserver.domain.community.model.entity.Post;
-import org.example.burtyserver.domain.user.model.entity.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,11 +31,12 @@ public class PostDto {
 
     /**
      * 게시글 목록 응답 DTO
+     * content 는 본문 앞부분(최대 200자)이며 전체 본문은 상세 조회로 확인
      */
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class ListResponse {
         private Long id;
         private String content;
@@ -51,24 +52,49 @@ public class PostDto {
         /**
          * 게시글 목록 응답 DTO
          */
-        public static ListResponse from(Post post, User currentUser) {
+        public static ListResponse from(Post post, boolean liked) {
             List<String> categoryNames = post.getCategories().stream()
                     .map(BoardCategory::getName)
                     .toList();
 
             return ListResponse.builder()
                     .id(post.getId())
-                    .content(post.getContent())
+                    .content(post.getPreview())
                     .authorId(post.getAuthor().getId())
                     .authorName(post.getAuthor().getName())
                     .categoryNames(categoryNames)
-                    .commentCount(post.getComments().size())
+                    .commentCount(post.getCommentCount())
                     .createdAt(post.getCreatedAt())
                     .likeCount(post.getLikeCount())
-                    .liked(currentUser != null && post.isLikedByUser(currentUser))
+                    .liked(liked)
                     .viewCount(post.getViewCount())
                     .build();
         }
+
+        /**
+         * 좋아요 여부만 바꾼 복사본 (캐시된 공용 응답은 변경하지 않음)
+         */
+        public ListResponse withLiked(boolean liked) {
+            return toBuilder().liked(liked).build();
+        }
+
+        /**
+         * 목록 프로젝션으로부터 응답 DTO 생성
+         */
+        public static ListResponse of(PostFeedRow row, List<String> categoryNames, boolean liked) {
+            return ListResponse.builder()
+                    .id(row.getId())
+                    .content(row.getPreview())
+                    .authorId(row.getAuthorId())
+                    .authorName(row.getAuthorName())
+                    .categoryNames(categoryNames)
+                    .commentCount(row.getCommentCount())
+                    .createdAt(row.getCreatedAt())
+                    .likeCount(row.getLikeCount())
+                    .liked(liked)
+                    .viewCount(row.getViewCount())
+                    .build();
+        }
     }
 
     /**
@@ -87,18 +113,25 @@ public class PostDto {
         private List<BoardCategoryDto.Response> categories;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        // 댓글 첫 페이지 (이후 페이지는 commentCursor 로 댓글 목록 API 조회)
         private List<CommentDto.Response> comments;
+        private String commentCursor;
+        private int commentCount;
         private boolean isAuthor;
         private int likeCount;
         private boolean liked;
         private Long viewCount;
 
-        public static DetailResponse from(Post post, User currentUser) {
-            List<CommentDto.Response> commentDtos = post.getComments().stream()
-                    .map(comment -> CommentDto.Response.from(comment, currentUser))
-                    .collect(Collectors.toList());
+        /**
+         * @param pendingViewCount 아직 DB에 반영되지 않은 조회수
+         * @param comments 댓글 첫 페이지
+         * @param categoryPostCounts 카테고리 ID -> 게시글 수
+         */
+        public static DetailResponse from(Post post, Long currentUserId, boolean liked, long pendingViewCount,
+                                          CursorPage<CommentDto.Response> comments, Map<Long, Integer> categoryPostCounts) {
             List<BoardCategoryDto.Response> categoryDtos = post.getCategories().stream()
-                    .map(BoardCategoryDto.Response::from)
+                    .map(category -> BoardCategoryDto.Response.from(
+                            category, categoryPostCounts.getOrDefault(category.getId(), 0)))
                     .collect(Collectors.toList());
 
             return DetailResponse.builder()
@@ -110,11 +143,13 @@ public class PostDto {
                     .categories(categoryDtos)
                     .createdAt(post.getCreatedAt())
                     .updatedAt(post.getUpdatedAt())
-                    .comments(commentDtos)
-                    .isAuthor(currentUser != null && post.getAuthor().getId().equals(currentUser.getId()))
+                    .comments(comments.getContent())
+                    .commentCursor(comments.getNextCursor())
+                    .commentCount(post.getCommentCount())
+                    .isAuthor(post.getAuthor().getId().equals(currentUserId))
                     .likeCount(post.getLikeCount())
-                    .liked(currentUser != null && post.isLikedByUser(currentUser))
-                    .viewCount(post.getViewCount())
+                    .liked(liked)
+                    .viewCount(post.getViewCount() + pendingViewCount)
                     .build();
         }
     }
@@ -0,0 +1,24 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 행에 대한 조회 전용 프로젝션
+ * 엔티티를 로딩하지 않고 JPQL 생성자 표현식으로 채워짐
+ * 본문은 TEXT 컬럼 대신 앞부분(preview)만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class PostFeedRow {
+    private Long id;
+    private String preview;
+    private Long authorId;
+    private String authorName;
+    private Integer commentCount;
+    private LocalDateTime createdAt;
+    private Integer likeCount;
+    private Long viewCount;
+}
@@ -0,0 +1,61 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.burtyserver.domain.community.model.entity.RecategorizationJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 재분류 관련 DTO 클래스 모음
+ */
+public class RecategorizationDto {
+    /**
+     * 재분류 작업 진행 상황 응답 DTO
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Progress {
+        private Long jobId;
+        private RecategorizationJob.Status status;
+        private boolean running; // 실행 중인지 여부 (하트비트 기준, 다른 인스턴스 포함)
+        private String owner;    // 실행(또는 마지막으로 실행한) 인스턴스
+        private Long lastPostId;
+        private Long maxPostId;
+        private double percent;
+        private long scannedPosts;
+        private long changedPosts;
+        private long addedLinks;
+        private long removedLinks;
+        private String errorMessage;
+        private LocalDateTime startedAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime finishedAt;
+
+        public static Progress from(RecategorizationJob job, boolean running) {
+            double percent = (job.getMaxPostId() == 0) ? 100.0
+                    : Math.min(100.0, job.getLastPostId() * 100.0 / job.getMaxPostId());
+            return Progress.builder()
+                    .jobId(job.getId())
+                    .status(job.getStatus())
+                    .running(running)
+                    .owner(job.getOwner())
+                    .lastPostId(job.getLastPostId())
+                    .maxPostId(job.getMaxPostId())
+                    .percent(Math.round(percent * 10) / 10.0)
+                    .scannedPosts(job.getScannedPosts())
+                    .changedPosts(job.getChangedPosts())
+                    .addedLinks(job.getAddedLinks())
+                    .removedLinks(job.getRemovedLinks())
+                    .errorMessage(job.getErrorMessage())
+                    .startedAt(job.getStartedAt())
+                    .updatedAt(job.getUpdatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
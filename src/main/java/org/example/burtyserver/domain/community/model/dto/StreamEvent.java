@@ -0,0 +1,36 @@
+package org.example.burtyserver.domain.community.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 실시간 스트림(SSE)으로 전송하는 알림
+ * 본문은 포함하지 않으며, 클라이언트는 알림을 받은 뒤 필요한 목록/상세를 다시 조회
+ */
+@Getter
+@AllArgsConstructor
+public class StreamEvent {
+    public enum Type {
+        POST_CREATED,     // 새 게시글
+        COMMENT_CREATED,  // 새 댓글
+        RESYNC            // 전송 대기열이 넘쳐 알림이 유실됨 (목록 재조회 필요)
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final Long commentId;
+    // RESYNC 인 경우 유실된 알림 수
+    private final Integer dropped;
+
+    public static StreamEvent postCreated(Long postId) {
+        return new StreamEvent(Type.POST_CREATED, postId, null, null);
+    }
+
+    public static StreamEvent commentCreated(Long postId, Long commentId) {
+        return new StreamEvent(Type.COMMENT_CREATED, postId, commentId, null);
+    }
+
+    public static StreamEvent resync(int dropped) {
+        return new StreamEvent(Type.RESYNC, null, null, dropped);
+    }
+}
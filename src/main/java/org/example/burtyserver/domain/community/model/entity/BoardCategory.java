@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -14,6 +16,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "community_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "community.category")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,27 @@
+package org.example.burtyserver.domain.community.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 카테고리별 게시글 수 비정규화 카운터
+ * 2차 캐시 대상인 카테고리 엔티티와 분리된 테이블로, 카운터 갱신이 카테고리 캐시를 무효화하지 않음 (SQL 로만 갱신)
+ */
+@Entity
+@Immutable
+@Table(name = "community_category_post_counts")
+@Getter
+@NoArgsConstructor
+public class CategoryPostCount {
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false, columnDefinition = "int default 0")
+    private Integer postCount;
+}
@@ -14,7 +14,9 @@ import java.util.Set;
  * 게시글 댓글 엔티티
  */
 @Entity
-@Table(name = "community_comments")
+@Table(name = "community_comments", indexes = {
+        @Index(name = "idx_comments_author_post", columnList = "author_id, post_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +38,11 @@ public class Comment {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    // 좋아요 수는 비정규화 카운터로, 벌크 UPDATE 로만 갱신
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private Integer likeCount = 0;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -49,26 +56,4 @@ public class Comment {
         this.content = content;
     }
 
-    public int getLikeCount() {
-        return likes.size();
-    }
-
-    public boolean isLikedByUser(User user) {
-        return likes.stream()
-                .anyMatch(like -> like.getUser().getId().equals(user.getId()));
-    }
-
-    public CommentLike addLike(User user) {
-        CommentLike commentLike = CommentLike.builder()
-                .comment(this)
-                .user(user)
-                .build();
-        this.likes.add(commentLike);
-        return commentLike;
-    }
-
-    public void removeLike(User user) {
-        this.likes.removeIf(like -> like.getUser().getId().equals(user.getId()));
-    }
-
 }
@@ -5,9 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "community_keywords")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "community.keyword")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
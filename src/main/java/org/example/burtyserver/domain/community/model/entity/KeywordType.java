@@ -5,12 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "community_keyword_categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "community.keyword-type")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +26,7 @@ public class KeywordType {
     @Column(nullable = false, unique = true)
     private String name; // 지역, 연령대, 직무
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "community.keyword-type.keywords")
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Keyword> keywords = new ArrayList<>();
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,24 +17,55 @@ import java.util.Set;
  * 커뮤니티 게시글 엔티티
  */
 @Entity
-@Table(name = "community_posts")
+@Table(name = "community_posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_posts_view_count_id", columnList = "view_count, id"),
+        @Index(name = "idx_posts_author_created_at_id", columnList = "author_id, created_at, id")
+})
+@SQLRestriction("deleted = false")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Post {
+    public static final int PREVIEW_LENGTH = 200;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 상세 조회 외에는 필요 없으므로 실제 접근 시 별도 SELECT 로 조회 (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Builder.Default
+    // 목록 응답용 본문 앞부분 (목록 쿼리는 TEXT 대신 이 컬럼만 조회)
+    @Column(nullable = false, length = PREVIEW_LENGTH)
+    private String preview;
+
+    // 내용/카테고리 수정 시 증가 (낙관적 잠금, 게시글 상세 ETag)
+    @Version
     @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // 조회수는 ViewCountBuffer 의 배치 UPDATE 로만 갱신
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
     private Long viewCount = 0L;
 
+    // 좋아요/댓글 수는 비정규화 카운터로, 벌크 UPDATE 로만 갱신
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private Integer likeCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private Integer commentCount = 0;
+
+    // 댓글/좋아요가 많은 게시글은 먼저 숨김 처리 후 PostPurger 가 백그라운드에서 삭제
+    @Column(nullable = false, updatable = false, columnDefinition = "bit default 0")
+    private boolean deleted;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -43,7 +75,8 @@ public class Post {
     @JoinTable(
             name = "post_categories",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "category_id")
+            inverseJoinColumns = @JoinColumn(name = "category_id"),
+            indexes = @Index(name = "idx_post_categories_category_post", columnList = "category_id, post_id")
     )
     private Set<BoardCategory> categories = new HashSet<>();
 
@@ -62,12 +95,24 @@ public class Post {
 
     public void update(String content, Set<BoardCategory> categories){
         this.content = content;
+        this.preview = previewOf(content);
         this.categories = categories;
     }
 
-    public void addComment(Comment comment){
-        this.comments.add(comment);
-        comment.setPost(this);
+    @PrePersist
+    private void initPreview() {
+        this.preview = previewOf(content);
+    }
+
+    /**
+     * 본문 앞 PREVIEW_LENGTH 자 (서로게이트 쌍은 자르지 않음)
+     */
+    public static String previewOf(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return content.substring(0, end);
     }
 
     public void addCategory(BoardCategory boardCategory) {
@@ -78,29 +123,4 @@ public class Post {
         this.categories.remove(boardCategory);
     }
 
-    public int getLikeCount() {
-        return likes.size();
-    }
-
-    public boolean isLikedByUser(User user){
-        return likes.stream()
-                .anyMatch(like -> like.getUser().getId().equals(user.getId()));
-    }
-
-    public PostLike addLike(User user){
-        PostLike postLike = PostLike.builder()
-                .post(this)
-                .user(user)
-                .build();
-        this.likes.add(postLike);
-        return postLike;
-    }
-
-    public void removeLike(User user) {
-        this.likes.removeIf(like -> like.getUser().getId().equals(user.getId()));
-    }
-
-    public void incrementViewCount() {
-        this.viewCount = (this.viewCount == null) ? 1L : this.viewCount + 1L;
-    }
 }
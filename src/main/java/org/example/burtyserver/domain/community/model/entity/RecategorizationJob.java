@@ -0,0 +1,97 @@
+package org.example.burtyserver.domain.community.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 재분류 작업 진행 상황 (재개 지점 저장용)
+ */
+@Entity
+@Table(name = "community_recategorize_jobs")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecategorizationJob {
+    public enum Status {
+        RUNNING,
+        STOPPED,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 이 ID 까지의 게시글은 처리 완료 (재개 시 다음 ID 부터)
+    @Column(nullable = false)
+    private Long lastPostId;
+
+    // 작업 시작 시점의 최대 게시글 ID (이후 작성된 게시글은 작성 시 새 사전으로 분류됨)
+    @Column(nullable = false)
+    private Long maxPostId;
+
+    private long scannedPosts;
+    private long changedPosts;
+    private long addedLinks;
+    private long removedLinks;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    // 실행 중인 인스턴스 (조건부 UPDATE 로 선점하여 한 인스턴스만 실행)
+    @Column(length = 100)
+    private String owner;
+
+    // 실행 인스턴스가 마지막으로 진행 상황을 기록한 시각 (오래되면 다른 인스턴스가 이어받을 수 있음)
+    private LocalDateTime heartbeatAt;
+
+    @CreationTimestamp
+    private LocalDateTime startedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    /**
+     * 처리 완료 지점과 누적 결과 기록 (하트비트 갱신)
+     */
+    public void checkpoint(Long lastPostId, long scannedPosts, long changedPosts, long addedLinks, long removedLinks) {
+        this.lastPostId = lastPostId;
+        this.scannedPosts = scannedPosts;
+        this.changedPosts = changedPosts;
+        this.addedLinks = addedLinks;
+        this.removedLinks = removedLinks;
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실행 중이며 하트비트가 staleBefore 이후인지 여부 (어느 인스턴스에서든 살아 있는 실행)
+     */
+    public boolean isAlive(LocalDateTime staleBefore) {
+        return status == Status.RUNNING && heartbeatAt != null && heartbeatAt.isAfter(staleBefore);
+    }
+
+    public boolean isOwnedBy(String instanceId) {
+        return instanceId.equals(owner);
+    }
+
+    public void finish(Status status, String errorMessage) {
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
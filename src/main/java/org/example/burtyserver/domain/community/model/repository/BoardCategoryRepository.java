@@ -1,7 +1,10 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,10 +17,12 @@ public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Lo
     /**
      * 카테고리 명으로 카테고리 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<BoardCategory> findByName(String name);
 
     /**
      * 카테고리명 중복 확인
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
 }
@@ -0,0 +1,68 @@
+package org.example.burtyserver.domain.community.model.repository;
+
+import org.example.burtyserver.domain.community.model.entity.CategoryPostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카테고리 게시글 수 카운터 데이터 접근 인터페이스
+ */
+@Repository
+public interface CategoryPostCountRepository extends JpaRepository<CategoryPostCount, Long> {
+    /**
+     * 전체 카테고리 게시글 수 조회 (카테고리 ID -> 게시글 수)
+     */
+    default Map<Long, Integer> findAllPostCounts() {
+        return toMap(findAll());
+    }
+
+    /**
+     * 지정한 카테고리 게시글 수 조회 (카테고리 ID -> 게시글 수, 카운터 행이 없으면 제외)
+     */
+    default Map<Long, Integer> findPostCounts(Collection<Long> categoryIds) {
+        return categoryIds.isEmpty() ? Map.of() : toMap(findAllById(categoryIds));
+    }
+
+    /**
+     * 카운터 행이 없는 카테고리의 행 추가
+     */
+    @Modifying
+    @Query(value = "INSERT INTO community_category_post_counts (category_id, post_count) " +
+            "SELECT c.id, 0 FROM community_categories c " +
+            "WHERE NOT EXISTS (SELECT 1 FROM community_category_post_counts cc WHERE cc.category_id = c.id)",
+            nativeQuery = true)
+    int insertMissingRows();
+
+    /**
+     * 실제 집계와 다른 카운터 행만 갱신하고, 갱신된 행 수를 반환
+     * 삭제 처리 후 PostPurger 의 정리를 기다리는 게시글은 삭제 시 이미 차감되었으므로 집계에서 제외
+     */
+    @Modifying
+    @Query(value = "UPDATE community_category_post_counts cc " +
+            "SET cc.post_count = (SELECT COUNT(*) FROM post_categories pc JOIN community_posts p ON p.id = pc.post_id " +
+            "WHERE pc.category_id = cc.category_id AND p.deleted = false) " +
+            "WHERE cc.post_count <> (SELECT COUNT(*) FROM post_categories pc JOIN community_posts p ON p.id = pc.post_id " +
+            "WHERE pc.category_id = cc.category_id AND p.deleted = false)",
+            nativeQuery = true)
+    int reconcileExistingRows();
+
+    /**
+     * 카테고리 게시글 수 카운터 보정 (없는 행 추가 후 어긋난 행 갱신), 보정된 행 수를 반환
+     */
+    default int reconcilePostCounts() {
+        int inserted = insertMissingRows();
+        return inserted + reconcileExistingRows();
+    }
+
+    private static Map<Long, Integer> toMap(Iterable<CategoryPostCount> rows) {
+        Map<Long, Integer> postCounts = new HashMap<>();
+        rows.forEach(row -> postCounts.put(row.getCategoryId(), row.getPostCount()));
+        return postCounts;
+    }
+}
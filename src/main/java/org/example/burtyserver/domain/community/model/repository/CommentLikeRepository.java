@@ -1,14 +1,20 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.burtyserver.domain.community.model.entity.Comment;
 import org.example.burtyserver.domain.community.model.entity.CommentLike;
 import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
@@ -22,6 +28,51 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
      */
     boolean existsByCommentAndUser(Comment comment, User user);
 
+    /**
+     * 특정 댓글에 대한 특정 사용자의 좋아요 존재 여부 (ID 기준)
+     */
+    boolean existsByCommentIdAndUserId(Long commentId, Long userId);
+
+    /**
+     * 좋아요 추가 (단일 INSERT IGNORE)
+     * (comment_id, user_id) 유니크 제약으로 중복 요청은 무시되며, 댓글이 없거나 이미 좋아요한 경우 0 반환
+     * IGNORE 는 외래 키 위반 등 다른 오류도 0 으로 바꾸므로 0 일 때는 호출 측에서 좋아요 행 존재 여부로 구분
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_comment_likes"))
+    @Query(value = "INSERT IGNORE INTO community_comment_likes (comment_id, user_id, created_at) " +
+            "SELECT c.id, :userId, NOW(6) FROM community_comments c WHERE c.id = :commentId",
+            nativeQuery = true)
+    int insertIgnore(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소 (단일 DELETE), 삭제된 행 수 반환
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /**
+     * 댓글의 좋아요 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId")
+    int deleteAllByCommentId(@Param("commentId") Long commentId);
+
+    /**
+     * 여러 댓글의 좋아요 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN :commentIds")
+    int deleteAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 게시글에 달린 모든 댓글의 좋아요 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id IN (SELECT c.id FROM Comment c WHERE c.post.id = :postId)")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
     /**
      * 특정 댓글의 좋아요 수 조회
      */
@@ -33,4 +84,10 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     @Query("SELECT cl.comment FROM CommentLike cl WHERE cl.user.id = :userId ORDER BY cl.createdAt DESC")
     Page<Comment> findCommentsLikedByUser(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 주어진 댓글 중 사용자가 좋아요한 댓글 ID 조회
+     */
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
 }
@@ -1,13 +1,19 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.burtyserver.domain.community.model.entity.Comment;
 import org.example.burtyserver.domain.community.model.entity.Post;
 import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +25,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     List<Comment> findByPostOrderByCreatedAtAsc(Post post);
 
+    /**
+     * 게시글별 댓글 첫 페이지 조회 (작성자 함께 조회, ID 순)
+     * post_id 외래키 인덱스가 (post_id, id) 순서를 보장
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.id ASC")
+    List<Comment> findPageByPostId(@Param("postId") Long postId, Pageable limit);
+
+    /**
+     * 게시글별 댓글 커서 조회 - afterId 이후 페이지
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.id > :afterId ORDER BY c.id ASC")
+    List<Comment> findPageByPostIdAfter(@Param("postId") Long postId, @Param("afterId") Long afterId, Pageable limit);
+
     /**
      * 사용자가 작성한 댓글 목록 조회
      */
@@ -26,4 +45,69 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT DISTINCT c.post FROM Comment c WHERE c.author.id = :userId")
     List<Post> findPostsByCommentAuthor(@Param("userId") Long userId);
+
+    /**
+     * 댓글 좋아요 수 증감
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 댓글 행 삭제 (좋아요는 먼저 삭제되어 있어야 함)
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteRowById(@Param("commentId") Long commentId);
+
+    /**
+     * 여러 댓글 행 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteRowsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 게시글의 댓글 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 댓글 ID를 최대 limit 건 조회 (백그라운드 분할 삭제용)
+     */
+    @Query(value = "SELECT id FROM community_comments WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    /**
+     * 댓글 좋아요 수 카운터 조회
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    Optional<Integer> findLikeCountById(@Param("commentId") Long commentId);
+
+    /**
+     * 댓글이 속한 게시글 ID 조회
+     */
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
+
+    /**
+     * 최대 댓글 ID 조회 (카운터 보정 구간 계산용)
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0L) FROM Comment c")
+    Long findMaxId();
+
+    /**
+     * ID 구간 내 댓글의 좋아요 카운터 보정
+     * 실제 집계와 다른 행만 갱신하고, 갱신된 행 수를 반환
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_comments"))
+    @Query(value = "UPDATE community_comments c " +
+            "SET c.like_count = (SELECT COUNT(*) FROM community_comment_likes l WHERE l.comment_id = c.id) " +
+            "WHERE c.id BETWEEN :fromId AND :toId " +
+            "AND c.like_count <> (SELECT COUNT(*) FROM community_comment_likes l WHERE l.comment_id = c.id)",
+            nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,14 +1,26 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.burtyserver.domain.community.model.entity.Keyword;
 import org.example.burtyserver.domain.community.model.entity.KeywordType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Keyword> findByCategory(KeywordType category);
     List<Keyword> findAll();
+
+    /**
+     * 키워드 유형을 함께 조회 (키워드 매처 생성용, 쿼리 캐시 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT k FROM Keyword k LEFT JOIN FETCH k.category")
+    List<Keyword> findAllWithType();
 }
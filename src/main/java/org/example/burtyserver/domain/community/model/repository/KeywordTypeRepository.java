@@ -1,12 +1,16 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.burtyserver.domain.community.model.entity.KeywordType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface KeywordTypeRepository extends JpaRepository<KeywordType, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<KeywordType> findByName(String name);
 }
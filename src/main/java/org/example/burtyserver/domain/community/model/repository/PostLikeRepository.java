@@ -1,15 +1,21 @@
 package org.example.burtyserver.domain.community.model.repository;
 
 
+import jakarta.persistence.QueryHint;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
 import org.example.burtyserver.domain.community.model.entity.Post;
 import org.example.burtyserver.domain.community.model.entity.PostLike;
 import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +31,45 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      */
     boolean existsByPostAndUser(Post post, User user);
 
+    /**
+     * 특정 게시글에 대한 특정 사용자의 좋아요 존재 여부 (ID 기준)
+     */
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
+    /**
+     * 좋아요 추가 (단일 INSERT IGNORE)
+     * (post_id, user_id) 유니크 제약으로 중복 요청은 무시되며, 게시글이 없거나 이미 좋아요한 경우 0 반환
+     * IGNORE 는 외래 키 위반 등 다른 오류도 0 으로 바꾸므로 0 일 때는 호출 측에서 좋아요 행 존재 여부로 구분
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_post_likes"))
+    @Query(value = "INSERT IGNORE INTO community_post_likes (post_id, user_id, created_at) " +
+            "SELECT p.id, :userId, NOW(6) FROM community_posts p WHERE p.id = :postId AND p.deleted = false",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소 (단일 DELETE), 삭제된 행 수 반환
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    /**
+     * 게시글의 좋아요 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 좋아요를 최대 limit 건 삭제 (백그라운드 분할 삭제용)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_post_likes"))
+    @Query(value = "DELETE FROM community_post_likes WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
     /**
      * 특정 게시글의 좋아요 수 조회
      */
@@ -35,4 +80,17 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      */
     @Query("SELECT pl.post FROM PostLike pl WHERE pl.user.id = :userId ORDER BY pl.createdAt DESC")
     Page<Post> findPostLikedByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 특정 사용자가 좋아요한 게시글 목록 프로젝션 페이징 조회
+     */
+    @Query(value = PostRepository.FEED_SELECT + "FROM PostLike pl JOIN pl.post p JOIN p.author a WHERE pl.user.id = :userId",
+            countQuery = "SELECT COUNT(pl) FROM PostLike pl WHERE pl.user.id = :userId")
+    Page<PostFeedRow> findFeedRowsLikedByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 게시글 ID 목록 중 특정 사용자가 좋아요한 게시글 ID 조회
+     */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
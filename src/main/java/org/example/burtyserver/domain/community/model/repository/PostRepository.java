@@ -1,15 +1,23 @@
 package org.example.burtyserver.domain.community.model.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
 import org.example.burtyserver.domain.community.model.entity.Post;
 import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 데이터 접근 인터페이스
@@ -17,6 +25,12 @@ import java.util.List;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 게시글 목록 프로젝션 SELECT 절 (작성자 조인 필요)
+     */
+    String FEED_SELECT = "SELECT new org.example.burtyserver.domain.community.model.dto.PostFeedRow(" +
+            "p.id, p.preview, a.id, a.name, p.commentCount, p.createdAt, p.likeCount, p.viewCount) ";
+
     /**
      * 전체 게시글 목록 페이징 조회 (최신순)
      */
@@ -46,4 +60,356 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT DISTINCT p FROM Post p JOIN p.categories c WHERE c.id = :categoryId")
     Page<Post> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 게시글 좋아요 수 증감
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 게시글 댓글 수 증감
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId AND p.deleted = false")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 게시글 숨김 처리 (백그라운드 삭제 대기)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.deleted = true WHERE p.id = :postId")
+    int markDeleted(@Param("postId") Long postId);
+
+    /**
+     * 삭제 대기 중인 게시글 ID 조회
+     */
+    @Query(value = "SELECT id FROM community_posts WHERE deleted = true", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    /**
+     * 게시글-카테고리 연결 일괄 삭제
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_categories"))
+    @Query(value = "DELETE FROM post_categories WHERE post_id = :postId", nativeQuery = true)
+    int deleteCategoryLinks(@Param("postId") Long postId);
+
+    /**
+     * 게시글 행 삭제 (숨김 처리된 게시글 포함, 하위 데이터는 먼저 삭제되어 있어야 함)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_posts"))
+    @Query(value = "DELETE FROM community_posts WHERE id = :postId", nativeQuery = true)
+    int deleteRowById(@Param("postId") Long postId);
+
+    /**
+     * 게시글 버전 조회 (조건부 조회용, 본문은 읽지 않음)
+     */
+    @Query("SELECT p.version FROM Post p WHERE p.id = :postId")
+    Optional<Long> findVersionById(@Param("postId") Long postId);
+
+    /**
+     * 주어진 게시글 중 아직 분류되지 않은(버전 0) 게시글 ID 를 행 잠금과 함께 조회
+     */
+    @Query(value = "SELECT id FROM community_posts WHERE id IN :postIds AND version = 0 AND deleted = false FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockUncategorizedIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 주어진 게시글의 버전을 행 잠금과 함께 조회 (일괄 재분류 중 수정된 게시글 확인용)
+     */
+    @Query(value = "SELECT id AS id, version AS version FROM community_posts WHERE id IN :postIds AND deleted = false FOR UPDATE",
+            nativeQuery = true)
+    List<PostVersionView> lockVersions(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 주어진 게시글의 카테고리 ID 조회
+     */
+    @Query("SELECT p.id AS postId, c.id AS categoryId FROM Post p JOIN p.categories c WHERE p.id IN :postIds")
+    List<CategoryIdView> findCategoryIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * ID 구간 내 게시글 내용과 버전 ID 순 배치 조회 (일괄 재분류용)
+     */
+    @Query("SELECT p.id AS id, p.content AS content, p.version AS version FROM Post p " +
+            "WHERE p.id > :lastId AND p.id <= :maxId ORDER BY p.id ASC")
+    List<PostContentVersionView> findContentsBetween(@Param("lastId") Long lastId,
+                                                     @Param("maxId") Long maxId,
+                                                     Pageable limit);
+
+    /**
+     * 게시글 버전 증가 (비동기 분류 완료 표시, 이전 버전으로 시작한 수정은 낙관적 잠금으로 실패)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.version = p.version + 1 WHERE p.id IN :postIds")
+    int incrementVersions(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 기준 시각 이후 작성되었으나 분류되지 않은 게시글 내용을 ID 순으로 lastId 다음부터 조회 (비동기 분류 복구용)
+     */
+    @Query(value = "SELECT p.id AS id, p.content AS content FROM community_posts p " +
+            "WHERE p.created_at >= :since AND p.id > :lastId AND p.version = 0 AND p.deleted = false " +
+            "AND NOT EXISTS (SELECT 1 FROM post_categories pc WHERE pc.post_id = p.id) ORDER BY p.id LIMIT :limit",
+            nativeQuery = true)
+    List<PostContentView> findUncategorizedContentsSince(@Param("since") LocalDateTime since,
+                                                         @Param("lastId") Long lastId,
+                                                         @Param("limit") int limit);
+
+    /**
+     * 게시글 좋아요 수 카운터 조회
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    /**
+     * 최대 게시글 ID 조회 (카운터 보정 구간 계산용)
+     */
+    @Query("SELECT COALESCE(MAX(p.id), 0L) FROM Post p")
+    Long findMaxId();
+
+    /**
+     * ID 구간 내 게시글의 좋아요/댓글 카운터 보정
+     * 실제 집계와 다른 행만 갱신하고, 갱신된 행 수를 반환
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "community_posts"))
+    @Query(value = "UPDATE community_posts p " +
+            "SET p.like_count = (SELECT COUNT(*) FROM community_post_likes l WHERE l.post_id = p.id), " +
+            "p.comment_count = (SELECT COUNT(*) FROM community_comments c WHERE c.post_id = p.id) " +
+            "WHERE p.id BETWEEN :fromId AND :toId " +
+            "AND (p.like_count <> (SELECT COUNT(*) FROM community_post_likes l WHERE l.post_id = p.id) " +
+            "OR p.comment_count <> (SELECT COUNT(*) FROM community_comments c WHERE c.post_id = p.id))",
+            nativeQuery = true)
+    int reconcileCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 카테고리에 연결된 게시글이 하나라도 있는지 확인 (LIMIT 1 조회)
+     * 삭제 처리 후 PostPurger 의 정리를 기다리는 게시글의 연결 행도 포함 (남아 있으면 카테고리 삭제 시 FK 위반)
+     */
+    @Query(value = "SELECT 1 FROM post_categories WHERE category_id = :categoryId LIMIT 1", nativeQuery = true)
+    Optional<Integer> findAnyLinkByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * 전체 게시글 목록 프로젝션 페이징 조회
+     */
+    @Query(value = FEED_SELECT + "FROM Post p JOIN p.author a",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostFeedRow> findFeedRows(Pageable pageable);
+
+    /**
+     * 카테고리별 게시글 목록 프로젝션 페이징 조회
+     */
+    @Query(value = FEED_SELECT + "FROM Post p JOIN p.author a JOIN p.categories c WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(p) FROM Post p JOIN p.categories c WHERE c.id = :categoryId")
+    Page<PostFeedRow> findFeedRowsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 최신순 커서 조회 - 첫 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRows(Pageable limit);
+
+    /**
+     * 최신순 커서 조회 - (createdAt, id) 이후 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRowsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    /**
+     * 작성자별 최신순 커서 조회 - 첫 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a WHERE a.id = :authorId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRowsByAuthorId(@Param("authorId") Long authorId, Pageable limit);
+
+    /**
+     * 작성자별 최신순 커서 조회 - (createdAt, id) 이후 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a WHERE a.id = :authorId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRowsByAuthorIdAfter(@Param("authorId") Long authorId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable limit);
+
+    /**
+     * 사용자가 댓글을 작성한 게시글 최신순 커서 조회 - 첫 페이지
+     * 댓글 (author_id, post_id) 인덱스로 세미 조인하여 게시글당 한 행만 반환
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a " +
+            "WHERE p.id IN (SELECT c.post.id FROM Comment c WHERE c.author.id = :userId) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRowsCommentedBy(@Param("userId") Long userId, Pageable limit);
+
+    /**
+     * 사용자가 댓글을 작성한 게시글 최신순 커서 조회 - (createdAt, id) 이후 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a " +
+            "WHERE p.id IN (SELECT c.post.id FROM Comment c WHERE c.author.id = :userId) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostFeedRow> findLatestFeedRowsCommentedByAfter(@Param("userId") Long userId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable limit);
+
+    /**
+     * 조회수순 커서 조회 - 첫 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostFeedRow> findMostViewedFeedRows(Pageable limit);
+
+    /**
+     * 조회수순 커서 조회 - (viewCount, id) 이후 페이지
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a " +
+            "WHERE p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :id) " +
+            "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostFeedRow> findMostViewedFeedRowsAfter(@Param("viewCount") Long viewCount, @Param("id") Long id, Pageable limit);
+
+    /**
+     * 카테고리별 최신순 커서 조회 - beforeId 보다 작은 게시글 ID (첫 페이지는 Long.MAX_VALUE)
+     * 카테고리 내 최신순은 게시글 ID 순과 같으므로 post_categories (category_id, post_id) 인덱스를 역순으로 읽어 정렬 없이 조회
+     */
+    @Query(value = "SELECT pc.post_id FROM post_categories pc JOIN community_posts p ON p.id = pc.post_id " +
+            "WHERE pc.category_id = :categoryId AND pc.post_id < :beforeId AND p.deleted = false " +
+            "ORDER BY pc.post_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findLatestIdsByCategoryId(@Param("categoryId") Long categoryId,
+                                         @Param("beforeId") Long beforeId,
+                                         @Param("limit") int limit);
+
+    /**
+     * 카테고리별 조회수순 커서 조회 - (viewCount, id) 이후 게시글 ID (첫 페이지는 둘 다 Long.MAX_VALUE)
+     * (view_count, id) 인덱스를 역순으로 읽으며 post_categories 기본키로 카테고리 소속만 확인하여 정렬 없이 조회
+     */
+    @Query(value = "SELECT p.id FROM community_posts p " +
+            "WHERE p.deleted = false " +
+            "AND (p.view_count < :viewCount OR (p.view_count = :viewCount AND p.id < :id)) " +
+            "AND EXISTS (SELECT 1 FROM post_categories pc WHERE pc.post_id = p.id AND pc.category_id = :categoryId) " +
+            "ORDER BY p.view_count DESC, p.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findMostViewedIdsByCategoryId(@Param("categoryId") Long categoryId,
+                                             @Param("viewCount") Long viewCount,
+                                             @Param("id") Long id,
+                                             @Param("limit") int limit);
+
+    /**
+     * 게시글 ID 목록에 대한 카테고리명 일괄 조회
+     */
+    @Query("SELECT p.id AS postId, c.name AS categoryName FROM Post p JOIN p.categories c WHERE p.id IN :postIds")
+    List<CategoryNameView> findCategoryNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글 ID 목록에 대한 목록 프로젝션 일괄 조회 (순서 보장 없음)
+     */
+    @Query(FEED_SELECT + "FROM Post p JOIN p.author a WHERE p.id IN :ids")
+    List<PostFeedRow> findFeedRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기준 시각 이후 작성된 게시글의 인기도 통계 조회
+     */
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt, p.viewCount AS viewCount, " +
+            "p.likeCount AS likeCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.createdAt >= :since")
+    List<PostStatsView> findStatsCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 기준 시각 이후 작성된 게시글의 카테고리 ID 조회
+     */
+    @Query("SELECT p.id AS postId, c.id AS categoryId FROM Post p JOIN p.categories c WHERE p.createdAt >= :since")
+    List<CategoryIdView> findCategoryIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * ID 순 게시글 내용 배치 조회 (검색 색인 구성용)
+     */
+    @Query("SELECT p.id AS id, p.content AS content FROM Post p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PostContentView> findContentsAfter(@Param("lastId") Long lastId, Pageable limit);
+
+    /**
+     * 내용에 검색어가 포함된 게시글 ID 최신순 조회 (검색 색인 준비 중/한 글자 검색어 대체용, 이스케이프 문자 '!')
+     */
+    @Query(value = "SELECT p.id FROM Post p WHERE p.content LIKE CONCAT('%', :keyword, '%') ESCAPE '!' ORDER BY p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.content LIKE CONCAT('%', :keyword, '%') ESCAPE '!'")
+    Page<Long> findIdsByContentContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 카테고리의 최신 게시글 ID 조회 (맞춤 피드 후보 적재용)
+     */
+    @Query("SELECT p.id FROM Post p JOIN p.categories c WHERE c.id = :categoryId ORDER BY p.id DESC")
+    List<Long> findRecentIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable limit);
+
+    /**
+     * 기준 시각 이후 작성된 게시글 내용 ID 순 배치 조회 (인기 키워드 집계 복원용)
+     */
+    @Query("SELECT p.id AS id, p.content AS content, p.createdAt AS createdAt FROM Post p " +
+            "WHERE p.createdAt >= :since AND p.id > :lastId ORDER BY p.id ASC")
+    List<PostContentTimeView> findContentsCreatedSince(@Param("since") LocalDateTime since,
+                                                       @Param("lastId") Long lastId,
+                                                       Pageable limit);
+
+    /**
+     * 게시글별 카테고리명 조회 결과
+     */
+    interface CategoryNameView {
+        Long getPostId();
+        String getCategoryName();
+    }
+
+    /**
+     * 게시글별 카테고리 ID 조회 결과
+     */
+    interface CategoryIdView {
+        Long getPostId();
+        Long getCategoryId();
+    }
+
+    /**
+     * 게시글 내용 조회 결과
+     */
+    interface PostContentView {
+        Long getId();
+        String getContent();
+    }
+
+    /**
+     * 게시글 내용과 버전 조회 결과
+     */
+    interface PostContentVersionView {
+        Long getId();
+        String getContent();
+        Long getVersion();
+    }
+
+    /**
+     * 게시글 버전 조회 결과
+     */
+    interface PostVersionView {
+        Long getId();
+        Long getVersion();
+    }
+
+    /**
+     * 게시글 내용과 작성 시각 조회 결과
+     */
+    interface PostContentTimeView {
+        Long getId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 게시글 인기도 통계 조회 결과
+     */
+    interface PostStatsView {
+        Long getId();
+        LocalDateTime getCreatedAt();
+        Long getViewCount();
+        Integer getLikeCount();
+        Integer getCommentCount();
+    }
 }
@@ -0,0 +1,43 @@
+package org.example.burtyserver.domain.community.model.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.burtyserver.domain.community.model.entity.RecategorizationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 게시글 일괄 재분류 작업 데이터 접근 인터페이스
+ */
+@Repository
+public interface RecategorizationJobRepository extends JpaRepository<RecategorizationJob, Long> {
+    /**
+     * 가장 최근 작업 조회
+     */
+    Optional<RecategorizationJob> findTopByOrderByIdDesc();
+
+    /**
+     * 가장 최근 작업을 행 잠금과 함께 조회 (여러 인스턴스의 동시 시작 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM RecategorizationJob j ORDER BY j.id DESC LIMIT 1")
+    Optional<RecategorizationJob> findLatestForUpdate();
+
+    /**
+     * 중단/실패했거나 실행 인스턴스의 하트비트가 끊긴 작업을 선점하여 다시 실행 상태로 변경
+     * 조건부 UPDATE 이므로 여러 인스턴스가 동시에 재개해도 한 곳만 1 을 반환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecategorizationJob j SET j.status = org.example.burtyserver.domain.community.model.entity.RecategorizationJob.Status.RUNNING, " +
+            "j.owner = :owner, j.heartbeatAt = :now, j.errorMessage = null, j.finishedAt = null " +
+            "WHERE j.id = :jobId AND (j.status <> org.example.burtyserver.domain.community.model.entity.RecategorizationJob.Status.RUNNING " +
+            "OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int claim(@Param("jobId") Long jobId, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
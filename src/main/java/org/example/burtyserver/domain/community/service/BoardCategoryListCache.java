@@ -0,0 +1,50 @@
+package org.example.burtyserver.domain.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.burtyserver.domain.community.event.BoardCategoryChangedEvent;
+import org.example.burtyserver.domain.community.event.CategoryPostCountsFlushedEvent;
+import org.example.burtyserver.domain.community.model.dto.BoardCategoryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 카테고리 목록(사이드바) 캐시
+ * 카테고리 변경 커밋 후 또는 버퍼의 게시글 수 증감이 반영된 후 제거
+ */
+@Component
+public class BoardCategoryListCache {
+    private static final String KEY = "all";
+
+    private final Cache<String, List<BoardCategoryDto.Response>> cache;
+
+    public BoardCategoryListCache(@Value("${app.community.category-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader 결과를 저장 후 반환)
+     */
+    public List<BoardCategoryDto.Response> get(Supplier<List<BoardCategoryDto.Response>> loader) {
+        return cache.get(KEY, key -> List.copyOf(loader.get()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(BoardCategoryChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onPostCountsFlushed(CategoryPostCountsFlushedEvent event) {
+        cache.invalidateAll();
+    }
+}
@@ -3,12 +3,19 @@ package org.example.burtyserver.domain.community.service;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.event.BoardCategoryChangedEvent;
 import org.example.burtyserver.domain.community.model.dto.BoardCategoryDto;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.CategoryPostCount;
 import org.example.burtyserver.domain.community.model.repository.BoardCategoryRepository;
+import org.example.burtyserver.domain.community.model.repository.CategoryPostCountRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.global.datasource.PrimaryReader;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +25,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BoardCategoryService {
     private final BoardCategoryRepository boardCategoryRepository;
+    private final CategoryPostCountRepository categoryPostCountRepository;
+    private final PostRepository postRepository;
+    private final BoardCategoryListCache boardCategoryListCache;
+    private final PrimaryReader primaryReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 카테고리 생성
@@ -33,7 +45,9 @@ public class BoardCategoryService {
                 .name(request.getName())
                 .build();
 
-        return boardCategoryRepository.save(boardCategory);
+        BoardCategory savedCategory = boardCategoryRepository.save(boardCategory);
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(savedCategory.getId()));
+        return savedCategory;
     }
 
     /**
@@ -51,7 +65,9 @@ public class BoardCategoryService {
         }
 
         boardCategory.update(request.getName());
-        return boardCategoryRepository.save(boardCategory);
+        BoardCategory savedCategory = boardCategoryRepository.save(boardCategory);
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(categoryId));
+        return savedCategory;
     }
 
     /**
@@ -62,22 +78,26 @@ public class BoardCategoryService {
         BoardCategory boardCategory = boardCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId));
 
-        // 게시글이 있는 카테고리는 삭제할 수 없음
-        if (!boardCategory.getPosts().isEmpty()) {
+        // 게시글이 있는 카테고리는 삭제할 수 없음 (삭제 대기 중인 게시글 포함)
+        if (postRepository.findAnyLinkByCategoryId(categoryId).isPresent()) {
             throw new IllegalStateException("게시글이 있는 카테고리는 삭제할 수 없습니다.");
         }
 
         boardCategoryRepository.delete(boardCategory);
+        eventPublisher.publishEvent(new BoardCategoryChangedEvent(categoryId));
     }
 
     /**
-     * 카테고리 목록 조회
+     * 카테고리 목록 조회 (게시글 수 포함, 캐시 사용)
      */
     public List<BoardCategoryDto.Response> getAllCategories() {
-        List<BoardCategory> categories = boardCategoryRepository.findAll();
-        return categories.stream()
-                .map(BoardCategoryDto.Response::from)
-                .collect(Collectors.toList());
+        // 캐시는 모든 사용자가 공유하므로 복제 지연된 replica 가 아닌 primary 에서 적재
+        return boardCategoryListCache.get(() -> primaryReader.read(() -> {
+            Map<Long, Integer> postCounts = categoryPostCountRepository.findAllPostCounts();
+            return boardCategoryRepository.findAll().stream()
+                    .map(category -> BoardCategoryDto.Response.from(category, postCounts.getOrDefault(category.getId(), 0)))
+                    .collect(Collectors.toList());
+        }));
     }
 
     /**
@@ -87,6 +107,9 @@ public class BoardCategoryService {
         BoardCategory boardCategory = boardCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId));
 
-        return BoardCategoryDto.Response.from(boardCategory);
+        int postCount = categoryPostCountRepository.findById(categoryId)
+                .map(CategoryPostCount::getPostCount)
+                .orElse(0);
+        return BoardCategoryDto.Response.from(boardCategory, postCount);
     }
 }
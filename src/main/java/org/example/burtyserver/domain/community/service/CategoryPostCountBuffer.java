@@ -0,0 +1,115 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.CategoryPostCountsFlushedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카테고리 게시글 수 쓰기 지연(write-behind) 버퍼
+ * 게시글 작성/수정/삭제/분류 시 카운터 행을 바로 갱신하면 인기 카테고리 행에 잠금이 몰리므로,
+ * 커밋된 증감만 메모리에 모았다가 주기적으로 배치 UPDATE 로 반영
+ * 게시글 수는 최종적으로만 일관됨 (장애 시 유실분은 카운터 보정 작업이 바로잡음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPostCountBuffer {
+    // 카운터 행이 아직 없는 카테고리(새 카테고리)는 행을 추가
+    private static final String FLUSH_SQL = "INSERT INTO community_category_post_counts (category_id, post_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count)";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 카테고리별 게시글 수 증감 누적
+     * 트랜잭션 안에서 호출하면 커밋된 경우에만 누적 (DB 반영은 다음 flush 시점)
+     */
+    public void add(Map<Long, Integer> deltaByCategory) {
+        if (deltaByCategory.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> deltas = Map.copyOf(deltaByCategory);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach((categoryId, delta) -> add(categoryId, delta));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deltas.forEach((categoryId, delta) -> add(categoryId, delta));
+            }
+        });
+    }
+
+    /**
+     * 누적된 증감을 배치 UPDATE 로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.community.category-post-count-flush-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batch.add(new Object[]{entry.getKey(), delta});
+            } else {
+                // 한 주기 동안 증감이 없던 카테고리는 버퍼에서 제거 (누적과 같은 키 잠금 안에서 확인)
+                pending.computeIfPresent(entry.getKey(), (id, adder) -> (adder.sum() == 0) ? null : adder);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            // 실패한 증감은 다음 주기에 다시 시도
+            for (Object[] row : batch) {
+                add((Long) row[0], (Long) row[1]);
+            }
+            log.error("카테고리 게시글 수 반영 실패 - 카테고리 {}건, 다음 주기에 재시도", batch.size(), e);
+            return;
+        }
+
+        Map<Long, Long> postCountDeltas = new HashMap<>();
+        for (Object[] row : batch) {
+            postCountDeltas.put((Long) row[0], (Long) row[1]);
+        }
+        eventPublisher.publishEvent(new CategoryPostCountsFlushedEvent(postCountDeltas));
+    }
+
+    private void add(Long categoryId, long delta) {
+        pending.compute(categoryId, (id, adder) -> {
+            LongAdder target = (adder == null) ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
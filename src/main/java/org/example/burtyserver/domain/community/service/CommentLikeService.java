@@ -3,12 +3,11 @@ package org.example.burtyserver.domain.community.service;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.example.burtyserver.domain.community.model.entity.Comment;
-import org.example.burtyserver.domain.community.model.entity.CommentLike;
+import org.example.burtyserver.domain.community.event.CommentChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.LikeDto;
 import org.example.burtyserver.domain.community.model.repository.CommentLikeRepository;
 import org.example.burtyserver.domain.community.model.repository.CommentRepository;
-import org.example.burtyserver.domain.user.model.entity.User;
-import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,27 +17,15 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CommentLikeService {
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 좋아요 추가
      */
     @Transactional
     public boolean addLike(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
-
-        if (commentLikeRepository.existsByCommentAndUser(comment, user)) {
-            return false; // 이미 좋아요가 존재
-        }
-
-        CommentLike commentLike = comment.addLike(user);
-        commentLikeRepository.save(commentLike);
-        return true;
+        return isChanged(applyLike(userId, commentId, true), commentId);
     }
 
     /**
@@ -46,41 +33,68 @@ public class CommentLikeService {
      */
     @Transactional
     public boolean removeLike(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+        return isChanged(applyLike(userId, commentId, false), commentId);
+    }
 
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
+    /**
+     * 댓글 좋아요 상태 적용
+     * 단일 INSERT IGNORE / DELETE 로 처리하고, 영향받은 행이 없을 때만 원인 확인
+     */
+    @Transactional
+    public LikeDto.Result applyLike(Long userId, Long commentId, boolean liked) {
+        int affected = liked
+                ? commentLikeRepository.insertIgnore(commentId, userId)
+                : commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId);
 
-        CommentLike commentLike = commentLikeRepository.findByCommentAndUser(comment, user).orElse(null);
+        if (affected == 0) {
+            return resolveNoop(userId, commentId, liked);
+        }
 
-        if (commentLike == null) return false;
+        commentRepository.addLikeCount(commentId, liked ? 1 : -1);
+        commentRepository.findPostIdById(commentId).ifPresent(postId -> eventPublisher.publishEvent(new CommentChangedEvent(
+                liked ? CommentChangedEvent.Type.LIKED : CommentChangedEvent.Type.UNLIKED, postId, commentId, userId)));
+        return LikeDto.Result.CHANGED;
+    }
 
-        comment.removeLike(user);
-        commentLikeRepository.delete(commentLike);
-        return true;
+    /**
+     * 영향받은 행이 없는 원인 확인
+     * INSERT IGNORE 는 중복 키 외의 오류(사용자 외래 키 위반 등)도 무시하므로, 좋아요 행이 실제로 있을 때만 UNCHANGED
+     */
+    private LikeDto.Result resolveNoop(Long userId, Long commentId, boolean liked) {
+        if (!commentRepository.existsById(commentId)) {
+            return LikeDto.Result.NOT_FOUND;
+        }
+        if (!liked || commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
+            return LikeDto.Result.UNCHANGED;
+        }
+        throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
     }
 
     /**
      * 댓글 좋아요 여부 확인
      */
     public boolean checkLike(Long userId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
-
-        return commentLikeRepository.existsByCommentAndUser(comment, user);
+        if (commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
+            return true;
+        }
+        if (!commentRepository.existsById(commentId)) {
+            throw new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId);
+        }
+        return false;
     }
 
     /**
      * 댓글 좋아요 수 조회
      */
     public long getLikeCount(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        return commentRepository.findLikeCountById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
+    }
 
-        return commentLikeRepository.countByComment(comment);
+    private boolean isChanged(LikeDto.Result result, Long commentId) {
+        if (result == LikeDto.Result.NOT_FOUND) {
+            throw new EntityNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId);
+        }
+        return result == LikeDto.Result.CHANGED;
     }
 }
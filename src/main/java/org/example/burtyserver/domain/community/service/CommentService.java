@@ -1,20 +1,33 @@
 package org.example.burtyserver.domain.community.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.event.CommentChangedEvent;
+import org.example.burtyserver.domain.community.event.CommentCreatedEvent;
+import org.example.burtyserver.domain.community.event.PostInteractionEvent;
 import org.example.burtyserver.domain.community.model.dto.CommentDto;
+import org.example.burtyserver.domain.community.model.dto.CursorPage;
+import org.example.burtyserver.domain.community.model.dto.FeedCursor;
+import org.example.burtyserver.domain.community.model.dto.FeedSort;
 import org.example.burtyserver.domain.community.model.dto.PostDto;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
 import org.example.burtyserver.domain.community.model.entity.Comment;
 import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.repository.CommentLikeRepository;
 import org.example.burtyserver.domain.community.model.repository.CommentRepository;
 import org.example.burtyserver.domain.community.model.repository.PostRepository;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
+import org.example.burtyserver.global.exception.InvalidCursorException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,29 +36,37 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final LikeStatusResolver likeStatusResolver;
+    private final PostFeedAssembler postFeedAssembler;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 생성
      */
     @Transactional
     public Comment createComment(Long userId, Long postId, CommentDto.Request request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+        // 카운터 갱신으로 게시글 존재 여부를 확인하고, 게시글/사용자는 ID 참조만 사용
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
 
         Comment comment = Comment.builder()
                 .content(request.getContent())
-                .author(user)
-                .post(post)
+                .author(userRepository.getReferenceById(userId))
+                .post(postRepository.getReferenceById(postId))
                 .build();
 
-        post.addComment(comment);
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new PostInteractionEvent(PostInteractionEvent.Type.COMMENTED, postId, userId));
+        eventPublisher.publishEvent(new CommentCreatedEvent(postId, savedComment.getId()));
+        return savedComment;
     }
 
     /**
@@ -62,7 +83,10 @@ public class CommentService {
         }
 
         comment.update(request.getContent());
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                CommentChangedEvent.Type.UPDATED, comment.getPost().getId(), commentId, userId));
+        return savedComment;
     }
 
     /**
@@ -78,52 +102,98 @@ public class CommentService {
             throw new AccessDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        commentLikeRepository.deleteAllByCommentId(commentId);
+        commentRepository.deleteRowById(commentId);
+        postRepository.addCommentCount(postId, -1);
+        eventPublisher.publishEvent(new PostInteractionEvent(PostInteractionEvent.Type.UNCOMMENTED, postId, userId));
     }
 
     /**
-     * 게시글별 댓글 목록 조회
+     * 게시글별 댓글 목록 커서 기반 조회 (작성순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
      */
-    public List<CommentDto.Response> getCommentsByPost(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDto.Response> getCommentsByPost(Long postId, String cursor, int size, Long userId) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+        return getCommentPage(postId, cursor, size, userId);
+    }
 
-        List<Comment> comments = commentRepository.findByPostOrderByCreatedAtAsc(post);
-        User currentUser;
-        currentUser = userRepository.findById(userId).orElse(null);
-        return comments.stream()
-                .map(comment -> CommentDto.Response.from(comment, currentUser))
+    /**
+     * 게시글 존재 여부를 확인한 후 댓글 한 페이지 조회
+     * 좋아요 수는 카운터 컬럼, 좋아요 여부는 페이지 단위 IN 조회 1회로 처리
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDto.Response> getCommentPage(Long postId, String cursor, int size, Long userId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments = (cursor == null || cursor.isBlank())
+                ? commentRepository.findPageByPostId(postId, limit)
+                : commentRepository.findPageByPostIdAfter(postId, decodeCursor(cursor), limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = hasNext ? String.valueOf(pageComments.get(pageComments.size() - 1).getId()) : null;
+
+        Set<Long> likedIds = likeStatusResolver.likedCommentIds(userId, commentIds(pageComments));
+        List<CommentDto.Response> content = pageComments.stream()
+                .map(comment -> CommentDto.Response.of(comment, userId, likedIds.contains(comment.getId())))
                 .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor, hasNext);
     }
 
     /**
      * 사용자별 댓글 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<CommentDto.Response> getCommentsByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
 
-        List<Comment> comments = commentRepository.findByAuthorOrderByCreatedAtDesc(user);
-        User currentUser;
-        currentUser = userRepository.findById(userId).orElse(null);
+        List<Comment> comments = commentRepository.findByAuthorOrderByCreatedAtDesc(userRepository.getReferenceById(userId));
+        Set<Long> likedIds = likeStatusResolver.likedCommentIds(userId, commentIds(comments));
         return comments.stream()
-                .map(comment -> CommentDto.Response.from(comment, currentUser))
+                .map(comment -> CommentDto.Response.of(comment, userId, likedIds.contains(comment.getId())))
                 .collect(Collectors.toList());
     }
 
+    private List<Long> commentIds(List<Comment> comments) {
+        return comments.stream().map(Comment::getId).toList();
+    }
+
+    private Long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+
     /**
-     * 사용자가 댓글을 작성한 게시글 목록 조회
+     * 사용자가 댓글을 작성한 게시글 목록 커서 기반 조회 (게시글 최신순)
+     * 댓글 엔티티를 로딩하지 않고 세미 조인으로 게시글당 한 번만 조회
      */
-    public List<PostDto.ListResponse> getPostsCommentedByUser (Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : "+userId));
-
-        List<Post> posts = commentRepository.findPostsByCommentAuthor(userId);
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.ListResponse> getPostsCommentedByUser(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId);
+        }
 
-        return posts.stream()
-                .distinct()
-                .map(post -> PostDto.ListResponse.from(post, user))
-                .collect(Collectors.toList());
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PostFeedRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findLatestFeedRowsCommentedBy(userId, limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor, FeedSort.LATEST);
+            rows = postRepository.findLatestFeedRowsCommentedByAfter(userId, after.getCreatedAt(), after.getId(), limit);
+        }
+        return postFeedAssembler.assembleCursorPage(rows, pageSize, FeedSort.LATEST, userId);
     }
 
 }
@@ -0,0 +1,167 @@
+package org.example.burtyserver.domain.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.burtyserver.domain.community.event.BoardCategoryChangedEvent;
+import org.example.burtyserver.domain.community.event.CommentChangedEvent;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.event.PostInteractionEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 조회(If-None-Match)용 게시판/게시글 세대 번호와 ETag
+ * 모든 세대 번호는 하나의 증가 시퀀스에서 발급하므로 관련 세대 중 최댓값만으로 변경 여부를 판단
+ * 커밋 후 이벤트로 갱신하며, 카운터/작성자 정보처럼 이벤트가 없는 값은 max-stale-seconds 마다 ETag 를 바꿔 반영
+ * 세대 번호는 인스턴스 메모리에만 있고 다른 인스턴스의 변경 이벤트를 받지 못하므로 ETag 에 인스턴스 ID 를 포함
+ * 따라서 단일 인스턴스 기준이며, 여러 인스턴스에 분산되면 다른 인스턴스로 재검증한 요청은 304 를 받지 못함
+ * (N 대면 적중률이 약 1/N, 304 를 유지하려면 세션 고정 라우팅이나 세대 번호 공유 저장소 필요)
+ */
+@Component
+public class ContentVersions {
+    /**
+     * 사용자별 응답이므로 공유 캐시에는 저장하지 않고 매번 재검증
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // 재기동/다른 인스턴스에서 발급한 ETag 와 겹치지 않도록 태그에 포함 (다른 인스턴스의 세대 번호는 알 수 없으므로 일치시키지 않음)
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final long maxStaleSeconds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 카테고리 생성/수정/삭제 (모든 응답의 카테고리 이름에 영향)
+    private final AtomicLong referenceGeneration = new AtomicLong();
+    // 카테고리 목록 (카테고리별 게시글 수 포함)
+    private final AtomicLong categoryListGeneration = new AtomicLong();
+    // 전체 게시판 / 카테고리 게시판
+    private final AtomicLong allPostsGeneration = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> categoryGenerations = new ConcurrentHashMap<>();
+    // 게시글(내용, 댓글, 좋아요) / 사용자(본인 좋아요 여부)
+    private final Cache<Long, Long> postGenerations;
+    private final Cache<Long, Long> userGenerations;
+    // 캐시에서 밀려난 세대 번호의 최댓값 (밀려난 키는 이 값을 세대 번호로 사용해 이전 ETag 와 겹치지 않게 함)
+    private final AtomicLong evictedFloor = new AtomicLong();
+
+    public ContentVersions(
+            @Value("${app.community.etag.max-stale-seconds:30}") long maxStaleSeconds,
+            @Value("${app.community.etag.tracked-keys:100000}") long trackedKeys
+    ) {
+        this.maxStaleSeconds = Math.max(1, maxStaleSeconds);
+        this.postGenerations = trackedCache(trackedKeys);
+        this.userGenerations = trackedCache(trackedKeys);
+    }
+
+    /**
+     * 게시글 목록 ETag
+     *
+     * @param categoryId 카테고리 ID (전체 게시판은 null)
+     */
+    public String feedTag(Long categoryId, Long userId) {
+        long board = (categoryId == null) ? allPostsGeneration.get() : categoryGenerations.getOrDefault(categoryId, 0L);
+        return tag("f", max(board, referenceGeneration.get(), generation(userGenerations, userId)), userId);
+    }
+
+    /**
+     * 게시글 상세 ETag
+     *
+     * @param version 게시글 버전 (내용/카테고리 수정 시 증가)
+     */
+    public String postTag(Long postId, long version, Long userId) {
+        return tag("p", max(generation(postGenerations, postId), referenceGeneration.get()), version + "-" + userId);
+    }
+
+    /**
+     * 게시글 댓글 목록 ETag
+     */
+    public String commentsTag(Long postId, Long userId) {
+        return tag("c", generation(postGenerations, postId), userId);
+    }
+
+    /**
+     * 카테고리 목록/상세 ETag
+     */
+    public String categoriesTag() {
+        return tag("g", max(categoryListGeneration.get(), referenceGeneration.get()), null);
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 커밋 후 전체 게시판, 관련 카테고리 게시판, 게시글 세대 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        long stamp = sequence.incrementAndGet();
+        allPostsGeneration.accumulateAndGet(stamp, Math::max);
+        event.getCategoryIds().forEach(categoryId -> categoryGenerations.merge(categoryId, stamp, Math::max));
+        if (!event.getCategoryIds().isEmpty()) {
+            categoryListGeneration.accumulateAndGet(stamp, Math::max);
+        }
+        touch(postGenerations, event.getPostId(), stamp);
+    }
+
+    /**
+     * 좋아요/댓글 변동 커밋 후 게시글과 행위자 세대 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        long stamp = sequence.incrementAndGet();
+        touch(postGenerations, event.getPostId(), stamp);
+        touch(userGenerations, event.getUserId(), stamp);
+    }
+
+    /**
+     * 댓글 수정/좋아요 커밋 후 게시글과 행위자 세대 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        long stamp = sequence.incrementAndGet();
+        touch(postGenerations, event.getPostId(), stamp);
+        touch(userGenerations, event.getUserId(), stamp);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(BoardCategoryChangedEvent event) {
+        referenceGeneration.accumulateAndGet(sequence.incrementAndGet(), Math::max);
+    }
+
+    private Cache<Long, Long> trackedCache(long trackedKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(trackedKeys)
+                .<Long, Long>evictionListener((key, stamp, cause) -> {
+                    if (stamp != null) {
+                        evictedFloor.accumulateAndGet(stamp, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    private void touch(Cache<Long, Long> generations, Long key, long stamp) {
+        if (key != null) {
+            generations.asMap().merge(key, stamp, Math::max);
+        }
+    }
+
+    private long generation(Cache<Long, Long> generations, Long key) {
+        Long stamp = (key == null) ? null : generations.getIfPresent(key);
+        return (stamp != null) ? stamp : evictedFloor.get();
+    }
+
+    private String tag(String kind, long generation, Object suffix) {
+        long window = Instant.now().getEpochSecond() / maxStaleSeconds;
+        return "W/\"" + kind + "-" + instanceId + "-" + window + "-" + generation
+                + (suffix != null ? "-" + suffix : "") + "\"";
+    }
+
+    private static long max(long... generations) {
+        long max = 0;
+        for (long generation : generations) {
+            max = Math.max(max, generation);
+        }
+        return max;
+    }
+}
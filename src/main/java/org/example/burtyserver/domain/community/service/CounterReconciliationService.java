@@ -0,0 +1,54 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.model.repository.CategoryPostCountRepository;
+import org.example.burtyserver.domain.community.model.repository.CommentRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BiFunction;
+
+/**
+ * 비정규화된 좋아요/댓글/게시글 수 카운터를 실제 집계와 맞추는 보정 작업
+ * ID 구간 단위로 나누어 짧은 트랜잭션으로 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconciliationService {
+    private static final long BATCH_SIZE = 1000L;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final CategoryPostCountRepository categoryPostCountRepository;
+    private final CategoryPostCountBuffer categoryPostCountBuffer;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글/댓글/카테고리 카운터 전체 보정
+     */
+    @Scheduled(cron = "${app.community.counter-reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        int fixedPosts = reconcile(postRepository.findMaxId(), postRepository::reconcileCounters);
+        int fixedComments = reconcile(commentRepository.findMaxId(), commentRepository::reconcileLikeCounts);
+        // 카테고리는 수가 적으므로 한 번에 보정 (버퍼에 남은 증감을 먼저 반영해 이중 반영 방지)
+        categoryPostCountBuffer.flush();
+        Integer fixedCategories = transactionTemplate.execute(status -> categoryPostCountRepository.reconcilePostCounts());
+
+        log.info("카운터 보정 완료 - 게시글 {}건, 댓글 {}건, 카테고리 {}건", fixedPosts, fixedComments, fixedCategories);
+    }
+
+    private int reconcile(Long maxId, BiFunction<Long, Long, Integer> batch) {
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            long from = fromId;
+            long to = fromId + BATCH_SIZE - 1;
+            Integer updated = transactionTemplate.execute(status -> batch.apply(from, to));
+            fixed += (updated == null) ? 0 : updated;
+        }
+        return fixed;
+    }
+}
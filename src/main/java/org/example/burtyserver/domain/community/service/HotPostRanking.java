@@ -0,0 +1,332 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.event.PostInteractionEvent;
+import org.example.burtyserver.domain.community.event.PostViewsFlushedEvent;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기 게시글(hot) 랭킹
+ * 점수 = log10(조회수 + 3*좋아요 + 5*댓글) + 작성시각(초) / decay-seconds
+ * 작성시각 항으로 시간 감쇠를 표현하므로 이벤트가 없는 게시글은 재계산할 필요가 없음
+ * 최근 window-days 이내 게시글만 추적하며, 게시판(카테고리)별 상위 K건을 메모리에 유지
+ */
+@Slf4j
+@Component
+public class HotPostRanking {
+    // 전체 게시판 키
+    private static final Long ALL_BOARD = 0L;
+    private static final int LIKE_WEIGHT = 3;
+    private static final int COMMENT_WEIGHT = 5;
+
+    private final PostRepository postRepository;
+    private final int topK;
+    private final Duration window;
+    private final double decaySeconds;
+
+    // 추적 중인 게시글 통계 (this 로 동기화)
+    private final Map<Long, PostStats> stats = new HashMap<>();
+    // 게시판별 상위 K건 (쓰기는 this 로 동기화, 읽기는 잠금 없이)
+    private final ConcurrentHashMap<Long, Board> boards = new ConcurrentHashMap<>();
+
+    public HotPostRanking(
+            PostRepository postRepository,
+            @Value("${app.community.hot.top-k:300}") int topK,
+            @Value("${app.community.hot.window-days:7}") long windowDays,
+            @Value("${app.community.hot.decay-seconds:45000}") double decaySeconds
+    ) {
+        this.postRepository = postRepository;
+        this.topK = topK;
+        this.window = Duration.ofDays(windowDays);
+        this.decaySeconds = decaySeconds;
+    }
+
+    /**
+     * 인기 게시글 ID 조회 (점수 내림차순)
+     *
+     * @param categoryId 카테고리 ID (전체 게시판은 null)
+     */
+    public List<Long> topPostIds(Long categoryId, int offset, int limit) {
+        Board board = boards.get(boardKey(categoryId));
+        if (board == null) {
+            return List.of();
+        }
+        return board.entries.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(RankEntry::getPostId)
+                .toList();
+    }
+
+    /**
+     * 게시판의 인기 게시글 수 (최대 K)
+     */
+    public synchronized int boardSize(Long categoryId) {
+        Board board = boards.get(boardKey(categoryId));
+        return (board == null) ? 0 : board.size;
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 게시글 통계로 랭킹 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+
+        Map<Long, Set<Long>> categoriesByPost = new HashMap<>();
+        for (PostRepository.CategoryIdView row : postRepository.findCategoryIdsCreatedSince(since)) {
+            categoriesByPost.computeIfAbsent(row.getPostId(), id -> new HashSet<>()).add(row.getCategoryId());
+        }
+
+        Map<Long, PostStats> loaded = new HashMap<>();
+        for (PostRepository.PostStatsView row : postRepository.findStatsCreatedSince(since)) {
+            PostStats postStats = new PostStats(epochSecond(row.getCreatedAt()),
+                    categoriesByPost.getOrDefault(row.getId(), new HashSet<>()));
+            postStats.views = row.getViewCount();
+            postStats.likes = row.getLikeCount();
+            postStats.comments = row.getCommentCount();
+            loaded.put(row.getId(), postStats);
+        }
+
+        synchronized (this) {
+            stats.clear();
+            stats.putAll(loaded);
+            rebuildAllBoards();
+        }
+        log.info("인기 게시글 랭킹 구성 완료 - 추적 게시글 {}건", loaded.size());
+    }
+
+    /**
+     * 추적 기간이 지난 게시글 제거
+     */
+    @Scheduled(cron = "${app.community.hot.prune-cron:0 0 * * * *}")
+    public synchronized void pruneExpired() {
+        long threshold = epochSecond(LocalDateTime.now().minus(window));
+        if (stats.values().removeIf(postStats -> postStats.createdAt < threshold)) {
+            rebuildAllBoards();
+        }
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        switch (event.getType()) {
+            case CREATED -> {
+                PostStats postStats = new PostStats(epochSecond(LocalDateTime.now()),
+                        new HashSet<>(event.getCurrentCategoryIds()));
+                stats.put(postId, postStats);
+                reposition(postId, postStats);
+            }
+            case UPDATED, CATEGORIZED -> {
+                PostStats postStats = stats.get(postId);
+                if (postStats == null) {
+                    return;
+                }
+                Set<Long> removed = new HashSet<>(postStats.categoryIds);
+                removed.removeAll(event.getCurrentCategoryIds());
+                postStats.categoryIds = new HashSet<>(event.getCurrentCategoryIds());
+                for (Long categoryId : removed) {
+                    evict(categoryId, postStats.entry);
+                }
+                reposition(postId, postStats);
+            }
+            case DELETED -> {
+                PostStats postStats = stats.remove(postId);
+                if (postStats == null) {
+                    return;
+                }
+                evict(ALL_BOARD, postStats.entry);
+                for (Long categoryId : postStats.categoryIds) {
+                    evict(categoryId, postStats.entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * 좋아요/댓글 변동 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onInteraction(PostInteractionEvent event) {
+        PostStats postStats = stats.get(event.getPostId());
+        if (postStats == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case LIKED -> postStats.likes++;
+            case UNLIKED -> postStats.likes = Math.max(0, postStats.likes - 1);
+            case COMMENTED -> postStats.comments++;
+            case UNCOMMENTED -> postStats.comments = Math.max(0, postStats.comments - 1);
+        }
+        reposition(event.getPostId(), postStats);
+    }
+
+    /**
+     * 조회수 버퍼 반영분 적용
+     */
+    @EventListener
+    public synchronized void onViewsFlushed(PostViewsFlushedEvent event) {
+        event.getViewDeltas().forEach((postId, delta) -> {
+            PostStats postStats = stats.get(postId);
+            if (postStats != null) {
+                postStats.views += delta;
+                reposition(postId, postStats);
+            }
+        });
+    }
+
+    private double score(PostStats postStats) {
+        double engagement = postStats.views + LIKE_WEIGHT * postStats.likes + COMMENT_WEIGHT * postStats.comments;
+        return Math.log10(Math.max(1.0, engagement)) + postStats.createdAt / decaySeconds;
+    }
+
+    /**
+     * 점수 재계산 후 전체 게시판과 소속 카테고리 게시판에 다시 배치
+     */
+    private void reposition(Long postId, PostStats postStats) {
+        RankEntry previous = postStats.entry;
+        RankEntry updated = new RankEntry(postId, score(postStats));
+        postStats.entry = updated;
+
+        offer(ALL_BOARD, previous, updated);
+        for (Long categoryId : postStats.categoryIds) {
+            offer(categoryId, previous, updated);
+        }
+    }
+
+    private void offer(Long boardKey, RankEntry previous, RankEntry updated) {
+        Board board = boards.computeIfAbsent(boardKey, key -> new Board());
+        boolean wasMember = previous != null && board.entries.remove(previous);
+        if (wasMember) {
+            board.size--;
+        }
+
+        if (board.size < topK || RankEntry.ORDER.compare(updated, board.entries.last()) < 0) {
+            board.entries.add(updated);
+            board.size++;
+            if (board.size > topK) {
+                board.entries.pollLast();
+                board.size--;
+            }
+        } else if (wasMember) {
+            // 점수가 내려가 밀려난 경우 바깥 게시글이 더 높을 수 있으므로 다시 구성
+            rebuildBoard(boardKey);
+        }
+    }
+
+    private void evict(Long boardKey, RankEntry entry) {
+        Board board = boards.get(boardKey);
+        if (board != null && entry != null && board.entries.remove(entry)) {
+            board.size--;
+            // 빈 자리를 추적 중인 다른 게시글로 채움
+            rebuildBoard(boardKey);
+        }
+    }
+
+    private void rebuildBoard(Long boardKey) {
+        List<RankEntry> candidates = new ArrayList<>();
+        for (PostStats postStats : stats.values()) {
+            if (postStats.entry != null
+                    && (ALL_BOARD.equals(boardKey) || postStats.categoryIds.contains(boardKey))) {
+                candidates.add(postStats.entry);
+            }
+        }
+        boards.put(boardKey, Board.of(candidates, topK));
+    }
+
+    private void rebuildAllBoards() {
+        Map<Long, List<RankEntry>> candidates = new HashMap<>();
+        stats.forEach((postId, postStats) -> {
+            postStats.entry = new RankEntry(postId, score(postStats));
+            candidates.computeIfAbsent(ALL_BOARD, key -> new ArrayList<>()).add(postStats.entry);
+            for (Long categoryId : postStats.categoryIds) {
+                candidates.computeIfAbsent(categoryId, key -> new ArrayList<>()).add(postStats.entry);
+            }
+        });
+
+        boards.keySet().retainAll(candidates.keySet());
+        candidates.forEach((boardKey, entries) -> boards.put(boardKey, Board.of(entries, topK)));
+    }
+
+    private static Long boardKey(Long categoryId) {
+        return (categoryId == null) ? ALL_BOARD : categoryId;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    /**
+     * 게시글별 인기도 통계
+     */
+    private static class PostStats {
+        private final long createdAt;
+        private Set<Long> categoryIds;
+        private long views;
+        private int likes;
+        private int comments;
+        // 현재 게시판에 배치된 항목 (점수 변경 시 제거용)
+        private RankEntry entry;
+
+        private PostStats(long createdAt, Set<Long> categoryIds) {
+            this.createdAt = createdAt;
+            this.categoryIds = categoryIds;
+        }
+    }
+
+    /**
+     * 게시판별 상위 K건
+     */
+    private static class Board {
+        private final ConcurrentSkipListSet<RankEntry> entries = new ConcurrentSkipListSet<>(RankEntry.ORDER);
+        // ConcurrentSkipListSet.size() 는 O(n) 이므로 별도로 관리
+        private int size;
+
+        private static Board of(List<RankEntry> candidates, int topK) {
+            Board board = new Board();
+            candidates.stream()
+                    .sorted(RankEntry.ORDER)
+                    .limit(topK)
+                    .forEach(board.entries::add);
+            board.size = board.entries.size();
+            return board;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RankEntry {
+        // 점수 내림차순, 동점이면 최신 게시글(ID 큰 순) 우선
+        private static final Comparator<RankEntry> ORDER = Comparator
+                .comparingDouble(RankEntry::getScore).reversed()
+                .thenComparing(RankEntry::getPostId, Comparator.reverseOrder());
+
+        private final Long postId;
+        private final double score;
+    }
+}
@@ -1,37 +1,111 @@
 package org.example.burtyserver.domain.community.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
 import org.example.burtyserver.domain.community.model.entity.Keyword;
+import org.example.burtyserver.domain.community.model.repository.BoardCategoryRepository;
 import org.example.burtyserver.domain.community.model.repository.KeywordRepository;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeywordExtractionService {
     private final KeywordRepository keywordRepository;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    // 키워드 변경 시 새 오토마톤을 만들어 참조만 교체
+    private volatile KeywordMatcher matcher;
 
     /**
      * 게시글 내용에서 등록된 키워드를 추출하려 매핑된 카테고리 목록 반환
      */
     public Set<BoardCategory> extractCategoriesFromContent(String content) {
         Set<BoardCategory> categories = new HashSet<>();
+        for (Long categoryId : extractCategoryIds(content)) {
+            categories.add(boardCategoryRepository.getReferenceById(categoryId));
+        }
+        return categories;
+    }
 
-        List<Keyword> allKeywords = keywordRepository.findAll();
-        String fullText = content.toLowerCase();
+    /**
+     * 게시글 내용에서 등록된 키워드를 추출하여 매핑된 카테고리 ID 목록 반환
+     */
+    public Set<Long> extractCategoryIds(String content) {
+        Set<Long> categoryIds = new HashSet<>();
+        for (KeywordMatcher.Entry entry : findKeywords(content)) {
+            if (entry.getMappedCategoryId() != null) {
+                categoryIds.add(entry.getMappedCategoryId());
+            }
+        }
+        return categoryIds;
+    }
 
-        for (Keyword keyword : allKeywords) {
-            String keywordText = keyword.getWord().toLowerCase();
-            if (fullText.matches(".*\\b" + keywordText + ".*") || fullText.contains(keywordText)) {
-                if (keyword.getMappedCategory() != null) {
-                    categories.add(keyword.getMappedCategory());
+    /**
+     * 게시글 내용에 포함된 키워드 목록 반환
+     */
+    public List<KeywordMatcher.Entry> findKeywords(String content) {
+        return getMatcher().match(content);
+    }
+
+    /**
+     * community_keywords 를 다시 읽어 오토마톤 재생성
+     */
+    public synchronized int reloadKeywords() {
+        List<KeywordMatcher.Entry> entries = keywordRepository.findAllWithType().stream()
+                .map(this::toEntry)
+                .toList();
+
+        KeywordMatcher rebuilt = KeywordMatcher.build(entries);
+        this.matcher = rebuilt;
+        log.info("키워드 매처 재생성 완료 - 키워드 {}개", rebuilt.size());
+        return rebuilt.size();
+    }
+
+    /**
+     * 2차 캐시를 비운 뒤 community_keywords 를 다시 읽어 오토마톤 재생성 (관리자 요청용)
+     */
+    public synchronized int refreshKeywords() {
+        referenceDataCache.evictKeywords();
+        return reloadKeywords();
+    }
+
+    /**
+     * SQL 스크립트로 추가된 키워드를 반영하기 위한 주기적 재생성
+     * 2차 캐시 영역 만료(keyword-refresh-ms 와 동일) 이후 다시 DB 에서 읽음
+     */
+    @Scheduled(fixedDelayString = "${app.community.keyword-refresh-ms:600000}",
+            initialDelayString = "${app.community.keyword-refresh-ms:600000}")
+    public void scheduledReload() {
+        reloadKeywords();
+    }
+
+    private KeywordMatcher getMatcher() {
+        KeywordMatcher current = matcher;
+        if (current == null) {
+            synchronized (this) {
+                if (matcher == null) {
+                    reloadKeywords();
                 }
+                current = matcher;
             }
         }
-        return categories;
+        return current;
+    }
+
+    private KeywordMatcher.Entry toEntry(Keyword keyword) {
+        return new KeywordMatcher.Entry(
+                keyword.getId(),
+                keyword.getWord(),
+                keyword.getCategory() != null ? keyword.getCategory().getName() : null,
+                keyword.getMappedCategory() != null ? keyword.getMappedCategory().getId() : null
+        );
     }
 }
@@ -0,0 +1,159 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 등록된 키워드 전체를 한 번의 본문 순회로 찾는 Aho-Corasick 오토마톤
+ * 생성 후에는 불변이므로 여러 스레드에서 동시에 사용 가능
+ */
+public final class KeywordMatcher {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final List<Entry> entries;
+    // 노드별 전이: 정렬된 문자 배열과 대상 노드 배열
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 노드에서 끝나는 키워드(실패 링크 경유 포함) 인덱스
+    private final int[][] outputs;
+
+    private KeywordMatcher(List<Entry> entries, char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs) {
+        this.entries = entries;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 매칭 대상 키워드 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long keywordId;
+        private final String word;
+        private final String keywordTypeName;   // 지역, 연령대, 직무
+        private final Long mappedCategoryId;
+    }
+
+    /**
+     * 키워드 목록으로 오토마톤 생성 (대소문자 무시, 빈 단어 제외)
+     */
+    public static KeywordMatcher build(List<Entry> source) {
+        List<Entry> entries = new ArrayList<>();
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (Entry entry : source) {
+            if (entry.getWord() == null || entry.getWord().isBlank()) {
+                continue;
+            }
+            String word = entry.getWord().toLowerCase();
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                Map<Character, Integer> edges = children.get(node);
+                Integer next = edges.get(word.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    edges.put(word.charAt(i), next);
+                    children.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(entries.size());
+            entries.add(entry);
+        }
+
+        int size = children.size();
+        int[] failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(ROOT).values()) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+
+        // BFS 로 실패 링크 계산 및 출력 병합
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[node];
+                while (fallback != ROOT && !children.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = children.get(fallback).get(edge.getKey());
+                failure[child] = (target == null || target == child) ? ROOT : target;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        int[][] outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            List<Character> keys = new ArrayList<>(children.get(node).keySet());
+            Collections.sort(keys);
+            edgeChars[node] = new char[keys.size()];
+            edgeTargets[node] = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                edgeChars[node][i] = keys.get(i);
+                edgeTargets[node][i] = children.get(node).get(keys.get(i));
+            }
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new KeywordMatcher(List.copyOf(entries), edgeChars, edgeTargets, failure, outputs);
+    }
+
+    /**
+     * 본문에 포함된 키워드 목록 반환 (중복 제거, 대소문자 무시)
+     */
+    public List<Entry> match(String content) {
+        if (content == null || content.isEmpty() || entries.isEmpty()) {
+            return List.of();
+        }
+
+        String text = content.toLowerCase();
+        BitSet found = new BitSet(entries.size());
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = transition(state, c);
+            while (next == NONE && state != ROOT) {
+                state = failure[state];
+                next = transition(state, c);
+            }
+            state = (next == NONE) ? ROOT : next;
+            for (int index : outputs[state]) {
+                found.set(index);
+            }
+        }
+
+        List<Entry> matched = new ArrayList<>(found.cardinality());
+        for (int index = found.nextSetBit(0); index >= 0; index = found.nextSetBit(index + 1)) {
+            matched.add(entries.get(index));
+        }
+        return matched;
+    }
+
+    /**
+     * 등록된 키워드 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return (index < 0) ? NONE : edgeTargets[node][index];
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.LikeDto;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클라이언트에 모아둔 좋아요 상태 변경을 한 요청/한 트랜잭션으로 적용하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeBatchService {
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final PostLikeService postLikeService;
+    private final CommentLikeService commentLikeService;
+
+    /**
+     * 좋아요 일괄 적용
+     * 같은 대상에 대한 요청이 여러 건이면 마지막 요청만 적용하며, 없는 대상은 NOT_FOUND 로 응답
+     */
+    @Transactional
+    public List<LikeDto.ToggleResponse> applyAll(Long userId, LikeDto.BatchRequest request) {
+        List<LikeDto.Toggle> toggles = (request.getToggles() == null) ? List.of() : request.getToggles();
+        if (toggles.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 요청할 수 있습니다.");
+        }
+
+        Map<String, LikeDto.Toggle> lastToggles = new LinkedHashMap<>();
+        for (LikeDto.Toggle toggle : toggles) {
+            if (toggle.getTargetType() == null || toggle.getTargetId() == null) {
+                throw new IllegalArgumentException("좋아요 대상 종류와 ID는 필수입니다.");
+            }
+            lastToggles.put(toggle.getTargetType() + ":" + toggle.getTargetId(), toggle);
+        }
+
+        List<LikeDto.ToggleResponse> responses = new ArrayList<>(lastToggles.size());
+        for (LikeDto.Toggle toggle : lastToggles.values()) {
+            LikeDto.Result result = (toggle.getTargetType() == LikeDto.TargetType.POST)
+                    ? postLikeService.applyLike(userId, toggle.getTargetId(), toggle.isLiked())
+                    : commentLikeService.applyLike(userId, toggle.getTargetId(), toggle.isLiked());
+
+            responses.add(LikeDto.ToggleResponse.builder()
+                    .targetType(toggle.getTargetType())
+                    .targetId(toggle.getTargetId())
+                    .liked(toggle.isLiked())
+                    .result(result)
+                    .build());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.repository.CommentLikeRepository;
+import org.example.burtyserver.domain.community.model.repository.PostLikeRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 현재 사용자의 좋아요 여부 일괄 조회
+ * 목록 단위로 (post_id/comment_id, user_id) 유니크 인덱스를 타는 IN 쿼리 1회로 처리하여 likes 컬렉션 로딩을 피함
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeStatusResolver {
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 ID
+     */
+    public Set<Long> likedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+    }
+
+    /**
+     * 주어진 댓글 중 사용자가 좋아요한 댓글 ID
+     */
+    public Set<Long> likedCommentIds(Long userId, Collection<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(userId, commentIds));
+    }
+
+    /**
+     * 단일 게시글 좋아요 여부
+     */
+    public boolean isPostLiked(Long userId, Long postId) {
+        return likedPostIds(userId, List.of(postId)).contains(postId);
+    }
+}
@@ -0,0 +1,353 @@
+package org.example.burtyserver.domain.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.CommentCreatedEvent;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.StreamEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 게시글/댓글 실시간 스트림(SSE) 구독 관리
+ * 커밋 후 이벤트를 토픽(전체 게시글, 카테고리, 게시글) 구독자 대기열에 넣고 전송 스레드가 비동기로 전송
+ * 구독자별 대기열은 queue-capacity 로 제한하며, 넘치면 RESYNC 를 보내고 연결을 종료 (클라이언트 재연결 후 재조회)
+ * 전송은 sender-threads 개 고정 스레드가 구독자 단위로 나눠 처리하며, 한 번에 대기열의 일부만 보내고 양보
+ * 소켓이 막힌 구독자는 send-timeout-ms 후 구독 해제되므로 느린 구독자가 늘어도 스레드 수는 늘지 않음
+ * 전체 구독자 수는 max-subscribers 로 제한
+ */
+@Slf4j
+@Component
+public class LiveStreamHub {
+    private static final String ALL_POSTS_TOPIC = "posts";
+
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long sendTimeoutMs;
+
+    // 토픽 -> 구독자
+    private final ConcurrentHashMap<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    // 카테고리 없이 작성되어 비동기 분류를 기다리는 게시글 (분류 완료 시 한 번만 카테고리 구독자에게 알림)
+    private final Cache<Long, Boolean> awaitingCategories = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @Autowired
+    public LiveStreamHub(
+            @Value("${app.community.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${app.community.stream.max-subscribers:5000}") int maxSubscribers,
+            @Value("${app.community.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.community.stream.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${app.community.stream.sender-threads:16}") int senderThreads
+    ) {
+        this(queueCapacity, maxSubscribers, timeoutMs, sendTimeoutMs, newSender(senderThreads, maxSubscribers));
+    }
+
+    /**
+     * 전송 스레드 풀을 지정하는 생성자 (테스트에서 전송 시점 제어용)
+     */
+    LiveStreamHub(int queueCapacity, int maxSubscribers, long timeoutMs, long sendTimeoutMs, ExecutorService sender) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.sender = sender;
+    }
+
+    /**
+     * 전체 새 게시글 구독 (구독자 수 초과 시 빈 값)
+     */
+    public Optional<SseEmitter> subscribePosts() {
+        return subscribe(ALL_POSTS_TOPIC);
+    }
+
+    /**
+     * 카테고리 새 게시글 구독 (구독자 수 초과 시 빈 값)
+     */
+    public Optional<SseEmitter> subscribeCategory(Long categoryId) {
+        return subscribe(categoryTopic(categoryId));
+    }
+
+    /**
+     * 게시글 새 댓글 구독 (구독자 수 초과 시 빈 값)
+     */
+    public Optional<SseEmitter> subscribePost(Long postId) {
+        return subscribe(postTopic(postId));
+    }
+
+    /**
+     * 게시글 작성 커밋 후 전체/카테고리 구독자에게 알림
+     * 비동기 분류된 게시글은 분류 완료 시 카테고리 구독자에게 알림
+     * 일괄 재분류 등 작성 직후가 아닌 분류 변경은 새 게시글이 아니므로 알리지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        StreamEvent streamEvent = StreamEvent.postCreated(event.getPostId());
+        if (event.getType() == PostChangedEvent.Type.CREATED) {
+            publish(ALL_POSTS_TOPIC, streamEvent);
+            if (event.getCurrentCategoryIds().isEmpty()) {
+                awaitingCategories.put(event.getPostId(), Boolean.TRUE);
+            }
+        } else if (event.getType() != PostChangedEvent.Type.CATEGORIZED
+                || awaitingCategories.asMap().remove(event.getPostId()) == null) {
+            return;
+        }
+        for (Long categoryId : event.getCurrentCategoryIds()) {
+            publish(categoryTopic(categoryId), streamEvent);
+        }
+    }
+
+    /**
+     * 댓글 작성 커밋 후 게시글 구독자에게 알림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        publish(postTopic(event.getPostId()), StreamEvent.commentCreated(event.getPostId(), event.getCommentId()));
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 연결과 전송이 막힌 연결을 정리하기 위한 하트비트
+     */
+    @Scheduled(fixedDelayString = "${app.community.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        topics.values().forEach(subscribers -> subscribers.forEach(Subscriber::heartbeat));
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        topics.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private Optional<SseEmitter> subscribe(String topic) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(topic, emitter);
+        topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        // 응답 헤더를 바로 내보내도록 첫 하트비트 전송
+        subscriber.heartbeat();
+        return Optional.of(emitter);
+    }
+
+    private void publish(String topic, StreamEvent event) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        topics.computeIfPresent(subscriber.topic, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * 고정 크기 전송 스레드 풀
+     * 구독자당 전송 작업은 최대 하나이므로 작업 대기열은 구독자 수로 제한, 유휴 스레드는 1분 후 정리
+     */
+    private static ExecutorService newSender(int senderThreads, int maxSubscribers) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(1, senderThreads);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, maxSubscribers)), runnable -> {
+            Thread thread = new Thread(runnable, "live-stream-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static String categoryTopic(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    private static String postTopic(Long postId) {
+        return "post:" + postId;
+    }
+
+    /**
+     * 구독자별 전송 대기열
+     * 한 구독자는 한 번에 하나의 전송 작업만 처리하고 queue-capacity 건마다 다른 구독자에게 스레드를 양보
+     * 대기열이 넘치거나 전송이 send-timeout-ms 이상 끝나지 않으면 구독을 끊음 (전송 중이던 스레드가 돌아오면 연결 종료)
+     */
+    private class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        // 전송 대기 알림 (this 로 동기화)
+        private final ArrayDeque<StreamEvent> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private int dropped;
+        private boolean heartbeatPending;
+        // 진행 중인 전송 시작 시각 (전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(String topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        private void offer(StreamEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            synchronized (this) {
+                if (queue.size() >= queueCapacity) {
+                    // 따라오지 못하는 구독자는 더 쌓지 않고 끊음 (RESYNC 후 종료, 클라이언트 재연결)
+                    dropped += queue.size() + 1;
+                    queue.clear();
+                    evict("대기열 초과");
+                    return;
+                }
+                queue.addLast(event);
+            }
+            scheduleDrain();
+        }
+
+        private void heartbeat() {
+            long startedAt = sendStartedAt;
+            if (startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeoutMs) {
+                evict("전송 지연");
+                return;
+            }
+            synchronized (this) {
+                heartbeatPending = true;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * 구독 해제 후 전송 스레드가 남은 RESYNC 를 보내고 연결을 종료하도록 함
+         * 막힌 전송과 같은 emitter 잠금을 기다리지 않도록 여기서는 complete 를 호출하지 않음
+         */
+        private void evict(String reason) {
+            if (closed.compareAndSet(false, true)) {
+                log.debug("느린 구독자 연결 종료 ({}) - topic: {}", reason, topic);
+                unsubscribe(this);
+                startDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!closed.get()) {
+                startDrain();
+            }
+        }
+
+        private void startDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 (구독자당 작업은 하나이므로 작업 대기열이 넘치지는 않음)
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                int sent = 0;
+                while (true) {
+                    if (sent >= queueCapacity) {
+                        // 고정 스레드를 한 구독자가 오래 쓰지 않도록 양보 후 다시 등록
+                        draining.set(false);
+                        startDrain();
+                        return;
+                    }
+                    StreamEvent next;
+                    int lost;
+                    boolean ping;
+                    synchronized (this) {
+                        lost = dropped;
+                        dropped = 0;
+                        ping = heartbeatPending && queue.isEmpty();
+                        heartbeatPending = false;
+                        next = queue.pollFirst();
+                        if (next == null && lost == 0 && !ping) {
+                            draining.set(false);
+                            break;
+                        }
+                    }
+                    if (lost > 0) {
+                        send(SseEmitter.event().name(StreamEvent.Type.RESYNC.name()).data(StreamEvent.resync(lost)));
+                    }
+                    if (next != null && !closed.get()) {
+                        send(SseEmitter.event().name(next.getType().name()).data(next));
+                        sent++;
+                    }
+                    if (ping && !closed.get()) {
+                        send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+                if (closed.get()) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독자 정리
+                log.debug("스트림 전송 실패로 구독 종료 - topic: {}", topic);
+                draining.set(false);
+                emitter.completeWithError(e);
+                close();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unsubscribe(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.burtyserver.domain.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.repository.BoardCategoryRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.event.UserChangedEvent;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * "나를 위한" 피드 후보 저장소
+ * 사용자 프로필(지역, 직무, 연령대)을 키워드 사전으로 카테고리에 매핑하고,
+ * 카테고리별 최신 게시글 ID 를 메모리에 최대 per-category 건 유지하여 요청 시 병합
+ * 게시글 생성/수정/삭제 커밋 후 갱신하므로 요청마다 게시글-카테고리 조인 쿼리를 실행하지 않음
+ */
+@Slf4j
+@Component
+public class PersonalizedFeedStore {
+    private static final String REGION_TYPE = "지역";
+    private static final String AGE_BAND_TYPE = "연령대";
+    private static final String JOB_TYPE = "직무";
+
+    private final PostRepository postRepository;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final KeywordExtractionService keywordExtractionService;
+    private final UserSnapshotCache userSnapshotCache;
+    private final int perCategory;
+
+    // 카테고리 ID -> 최신 게시글 ID (오름차순 저장, this 로 동기화)
+    private final Map<Long, TreeSet<Long>> candidatesByCategory = new HashMap<>();
+    // 사용자 ID -> 프로필로 매핑된 카테고리 ID
+    private final Cache<Long, Set<Long>> profileCategories;
+
+    public PersonalizedFeedStore(
+            PostRepository postRepository,
+            BoardCategoryRepository boardCategoryRepository,
+            KeywordExtractionService keywordExtractionService,
+            UserSnapshotCache userSnapshotCache,
+            @Value("${app.community.for-me.per-category:500}") int perCategory,
+            @Value("${app.community.for-me.profile-cache-size:10000}") long profileCacheSize,
+            @Value("${app.community.keyword-refresh-ms:600000}") long keywordRefreshMs
+    ) {
+        this.postRepository = postRepository;
+        this.boardCategoryRepository = boardCategoryRepository;
+        this.keywordExtractionService = keywordExtractionService;
+        this.userSnapshotCache = userSnapshotCache;
+        this.perCategory = perCategory;
+        // 키워드 사전 변경도 재생성 주기 안에 반영
+        this.profileCategories = Caffeine.newBuilder()
+                .maximumSize(profileCacheSize)
+                .expireAfterWrite(Duration.ofMillis(keywordRefreshMs))
+                .build();
+    }
+
+    /**
+     * 사용자 프로필에 맞는 게시글 ID 조회 (최신순)
+     *
+     * @param beforeId 이 ID 보다 오래된 게시글만 조회 (첫 페이지는 null)
+     */
+    public List<Long> candidates(Long userId, Long beforeId, int limit) {
+        Set<Long> categoryIds = profileCategoryIds(userId);
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 카테고리별 내림차순 목록을 ID 기준으로 병합 (여러 카테고리에 속한 게시글은 한 번만)
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> Long.compare(b.postId, a.postId));
+        synchronized (this) {
+            for (Long categoryId : categoryIds) {
+                TreeSet<Long> postIds = candidatesByCategory.get(categoryId);
+                if (postIds == null) {
+                    continue;
+                }
+                NavigableSet<Long> range = (beforeId == null) ? postIds.descendingSet() : postIds.headSet(beforeId, false).descendingSet();
+                // 카테고리당 limit 건이면 병합 결과를 채우기에 충분하므로 잠금 안에서 복사
+                List<Long> copied = new ArrayList<>(Math.min(limit, range.size()));
+                Iterator<Long> iterator = range.iterator();
+                while (iterator.hasNext() && copied.size() < limit) {
+                    copied.add(iterator.next());
+                }
+                if (!copied.isEmpty()) {
+                    heads.add(new Head(copied.iterator()));
+                }
+            }
+        }
+
+        List<Long> merged = new ArrayList<>(limit);
+        Long last = null;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head head = heads.poll();
+            if (!head.postId.equals(last)) {
+                merged.add(head.postId);
+                last = head.postId;
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 사용자 프로필(지역, 직무, 생년월일)에서 키워드 사전으로 찾은 카테고리 ID
+     */
+    public Set<Long> profileCategoryIds(Long userId) {
+        return profileCategories.get(userId, id -> userSnapshotCache.find(id)
+                .map(this::resolveProfileCategories)
+                .orElse(Set.of()));
+    }
+
+    /**
+     * 애플리케이션 시작 시 카테고리별 최신 게시글 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, TreeSet<Long>> loaded = new HashMap<>();
+        for (BoardCategory category : boardCategoryRepository.findAll()) {
+            List<Long> postIds = postRepository.findRecentIdsByCategoryId(category.getId(), PageRequest.of(0, perCategory));
+            loaded.put(category.getId(), new TreeSet<>(postIds));
+        }
+        synchronized (this) {
+            // 적재 중 이벤트로 먼저 추가된 게시글 유지
+            loaded.forEach((categoryId, postIds) -> {
+                TreeSet<Long> current = candidatesByCategory.computeIfAbsent(categoryId, id -> new TreeSet<>());
+                current.addAll(postIds);
+                trim(current);
+            });
+        }
+        log.info("맞춤 피드 후보 적재 완료 - 카테고리 {}개", loaded.size());
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 커밋 후 카테고리별 후보 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            for (Long categoryId : event.getCategoryIds()) {
+                TreeSet<Long> postIds = candidatesByCategory.get(categoryId);
+                if (postIds != null) {
+                    postIds.remove(postId);
+                }
+            }
+        }
+        if (event.getType() != PostChangedEvent.Type.DELETED) {
+            for (Long categoryId : event.getCurrentCategoryIds()) {
+                TreeSet<Long> postIds = candidatesByCategory.computeIfAbsent(categoryId, id -> new TreeSet<>());
+                postIds.add(postId);
+                trim(postIds);
+            }
+        }
+    }
+
+    /**
+     * 프로필 변경/탈퇴 커밋 후 매핑 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        profileCategories.invalidate(event.getUserId());
+    }
+
+    private Set<Long> resolveProfileCategories(UserSnapshot user) {
+        if (!user.isActive()) {
+            return Set.of();
+        }
+        Set<Long> categoryIds = new HashSet<>();
+        addMatches(user.getRegion(), REGION_TYPE, categoryIds);
+        addMatches(user.getJob(), JOB_TYPE, categoryIds);
+        addMatches(ageBand(user.getBirthDate()), AGE_BAND_TYPE, categoryIds);
+        return Set.copyOf(categoryIds);
+    }
+
+    private void addMatches(String profileValue, String keywordType, Set<Long> categoryIds) {
+        if (profileValue == null || profileValue.isBlank()) {
+            return;
+        }
+        for (KeywordMatcher.Entry entry : keywordExtractionService.findKeywords(profileValue)) {
+            if (keywordType.equals(entry.getKeywordTypeName()) && entry.getMappedCategoryId() != null) {
+                categoryIds.add(entry.getMappedCategoryId());
+            }
+        }
+    }
+
+    /**
+     * 생년월일로부터 연령대 키워드 (예: 20대)
+     */
+    private static String ageBand(LocalDate birthDate) {
+        if (birthDate == null) {
+            return null;
+        }
+        int age = Period.between(birthDate, LocalDate.now()).getYears();
+        return (age < 10) ? null : (age / 10 * 10) + "대";
+    }
+
+    private void trim(TreeSet<Long> postIds) {
+        while (postIds.size() > perCategory) {
+            postIds.pollFirst();
+        }
+    }
+
+    /**
+     * 병합 중인 카테고리별 목록의 현재 위치
+     */
+    private static class Head {
+        private final Iterator<Long> iterator;
+        private Long postId;
+
+        private Head(Iterator<Long> iterator) {
+            this.iterator = iterator;
+            this.postId = iterator.next();
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            postId = iterator.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostCategorizationRequestedEvent;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 카테고리 비동기 분류
+ * app.community.categorize.async=true 이면 게시글은 카테고리 없이 저장하고, 커밋 후 대기열에 넣어 전용 스레드가 분류
+ * 여러 게시글을 모아 한 트랜잭션에서 post_categories 를 배치 INSERT 하고, 실패 시 간격을 늘려 재시도
+ * 분류한 게시글은 버전을 올리므로 버전 0 + 카테고리 없음을 미분류로 보고 재기동 시 다시 처리
+ */
+@Slf4j
+@Component
+public class PostCategorizer {
+    private static final String INSERT_LINK_SQL = "INSERT IGNORE INTO post_categories (post_id, category_id) VALUES (?, ?)";
+
+    private final PostRepository postRepository;
+    private final CategoryPostCountBuffer categoryPostCountBuffer;
+    private final KeywordExtractionService keywordExtractionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // 커밋 후 리스너(요청 스레드)에서도 호출되므로 항상 새 트랜잭션으로 실행
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean async;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final long recoverHours;
+    private final BlockingQueue<Task> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public PostCategorizer(
+            PostRepository postRepository,
+            CategoryPostCountBuffer categoryPostCountBuffer,
+            KeywordExtractionService keywordExtractionService,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.community.categorize.async:false}") boolean async,
+            @Value("${app.community.categorize.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.community.categorize.batch-size:100}") int batchSize,
+            @Value("${app.community.categorize.max-attempts:3}") int maxAttempts,
+            @Value("${app.community.categorize.retry-delay-ms:1000}") long retryDelayMs,
+            @Value("${app.community.categorize.recover-hours:24}") long recoverHours
+    ) {
+        this.postRepository = postRepository;
+        this.categoryPostCountBuffer = categoryPostCountBuffer;
+        this.keywordExtractionService = keywordExtractionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.async = async;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMs = retryDelayMs;
+        this.recoverHours = recoverHours;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::run, "post-categorizer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 게시글 작성 시 카테고리 분류를 대기열로 미루는지 여부
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * 게시글 작성 커밋 후 분류 대기열에 추가
+     * 대기열이 가득 차면 요청 스레드에서 재시도 없이 한 번만 분류 (실패하면 미분류로 남아 다음 기동 시 재처리)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategorizationRequested(PostCategorizationRequestedEvent event) {
+        Task task = new Task(event.getPostId(), event.getContent());
+        if (!queue.offer(task)) {
+            log.warn("카테고리 분류 대기열이 가득 차 바로 처리 - 게시글 ID: {}", event.getPostId());
+            try {
+                categorize(List.of(task));
+            } catch (RuntimeException e) {
+                log.error("카테고리 분류 실패 - 게시글 ID: {}, 다음 기동 시 재처리", event.getPostId(), e);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 작업자 시작 (작업자가 분류되지 않은 게시글을 먼저 재처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!async) {
+            return;
+        }
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 작업은 버전 0 으로 남아 다음 기동 시 재처리
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        try {
+            recoverPending();
+        } catch (RuntimeException e) {
+            log.error("미분류 게시글 재처리 실패", e);
+        }
+        drainLoop();
+    }
+
+    /**
+     * recover-hours 이내에 작성되었으나 분류되지 않은 게시글을 ID 순 batch-size 단위로 재처리
+     * 처리한 게시글은 일치하는 키워드가 없어도 버전이 올라가 다음 기동 시 다시 조회되지 않음
+     */
+    private void recoverPending() {
+        LocalDateTime since = LocalDateTime.now().minusHours(recoverHours);
+        long lastId = 0L;
+        int recovered = 0;
+        List<PostRepository.PostContentView> page;
+        do {
+            page = postRepository.findUncategorizedContentsSince(since, lastId, batchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+            categorizeWithRetry(page.stream()
+                    .map(row -> new Task(row.getId(), row.getContent()))
+                    .toList());
+            recovered += page.size();
+        } while (running && page.size() == batchSize);
+
+        if (recovered > 0) {
+            log.info("미분류 게시글 {}건 재처리", recovered);
+        }
+    }
+
+    private void drainLoop() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Task first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                categorizeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("카테고리 분류 작업자 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void categorizeWithRetry(List<Task> tasks) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                categorize(tasks);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("카테고리 분류 실패 - 게시글 {}건, 다음 기동 시 재처리", tasks.size(), e);
+                    return;
+                }
+                log.warn("카테고리 분류 실패 - 게시글 {}건, {}번째 재시도", tasks.size(), attempt, e);
+                try {
+                    Thread.sleep(retryDelayMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void categorize(List<Task> tasks) {
+        // 키워드 매칭은 트랜잭션 밖에서 수행
+        Map<Long, Task> tasksById = new LinkedHashMap<>();
+        Map<Long, Set<Long>> categoryIdsByPost = new HashMap<>();
+        for (Task task : tasks) {
+            tasksById.put(task.postId, task);
+            categoryIdsByPost.put(task.postId, keywordExtractionService.extractCategoryIds(task.content));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 그사이 수정(버전 증가)되었거나 삭제된 게시글은 제외
+            List<Long> postIds = postRepository.lockUncategorizedIds(tasksById.keySet());
+            if (postIds.isEmpty()) {
+                return;
+            }
+            postRepository.incrementVersions(postIds);
+
+            List<Object[]> links = new ArrayList<>();
+            Map<Long, Integer> addedPerCategory = new HashMap<>();
+            for (Long postId : postIds) {
+                for (Long categoryId : categoryIdsByPost.get(postId)) {
+                    links.add(new Object[]{postId, categoryId});
+                    addedPerCategory.merge(categoryId, 1, Integer::sum);
+                }
+            }
+            if (!links.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_LINK_SQL, links);
+                categoryPostCountBuffer.add(addedPerCategory);
+            }
+
+            for (Long postId : postIds) {
+                Set<Long> categoryIds = categoryIdsByPost.get(postId);
+                eventPublisher.publishEvent(new PostChangedEvent(
+                        PostChangedEvent.Type.CATEGORIZED, postId, categoryIds, categoryIds, tasksById.get(postId).content));
+            }
+        });
+    }
+
+    @AllArgsConstructor
+    private static class Task {
+        private final Long postId;
+        private final String content;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.model.dto.CursorPage;
+import org.example.burtyserver.domain.community.model.dto.FeedCursor;
+import org.example.burtyserver.domain.community.model.dto.FeedSort;
+import org.example.burtyserver.domain.community.model.dto.PostDto;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 게시글 목록 프로젝션을 응답 DTO로 조립하는 컴포넌트
+ * 페이지 크기와 관계없이 카테고리명, 좋아요 여부를 각각 한 번의 IN 쿼리로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFeedAssembler {
+    private final PostRepository postRepository;
+    private final LikeStatusResolver likeStatusResolver;
+
+    /**
+     * 페이지 단위 조립
+     */
+    public Page<PostDto.ListResponse> assemble(Page<PostFeedRow> rows, Long currentUserId) {
+        return applyLiked(assembleShared(rows), currentUserId);
+    }
+
+    /**
+     * 목록 단위 조립 (행 순서 유지)
+     */
+    public List<PostDto.ListResponse> assemble(List<PostFeedRow> rows, Long currentUserId) {
+        return applyLiked(assembleShared(rows), currentUserId);
+    }
+
+    /**
+     * 커서 조회 결과 조립
+     *
+     * @param rows pageSize + 1 건까지 조회한 결과 (초과분이 있으면 다음 페이지 존재)
+     */
+    public CursorPage<PostDto.ListResponse> assembleCursorPage(List<PostFeedRow> rows, int pageSize,
+                                                               FeedSort sort, Long currentUserId) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PostFeedRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? FeedCursor.of(sort, pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return new CursorPage<>(assemble(pageRows, currentUserId), nextCursor, hasNext);
+    }
+
+    /**
+     * 사용자와 무관한 부분만 페이지 단위로 조립 (liked = false)
+     */
+    public Page<PostDto.ListResponse> assembleShared(Page<PostFeedRow> rows) {
+        List<PostDto.ListResponse> content = assembleShared(rows.getContent());
+        return new PageImpl<>(content, rows.getPageable(), rows.getTotalElements());
+    }
+
+    /**
+     * 사용자와 무관한 부분만 목록 단위로 조립 (liked = false)
+     */
+    public List<PostDto.ListResponse> assembleShared(List<PostFeedRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = rows.stream()
+                .map(PostFeedRow::getId)
+                .toList();
+
+        Map<Long, List<String>> categoryNames = new HashMap<>();
+        for (PostRepository.CategoryNameView view : postRepository.findCategoryNamesByPostIds(postIds)) {
+            categoryNames.computeIfAbsent(view.getPostId(), id -> new ArrayList<>()).add(view.getCategoryName());
+        }
+
+        return rows.stream()
+                .map(row -> PostDto.ListResponse.of(row, categoryNames.getOrDefault(row.getId(), List.of()), false))
+                .toList();
+    }
+
+    /**
+     * 현재 사용자의 좋아요 여부를 페이지 단위로 반영
+     */
+    public Page<PostDto.ListResponse> applyLiked(Page<PostDto.ListResponse> shared, Long currentUserId) {
+        List<PostDto.ListResponse> content = applyLiked(shared.getContent(), currentUserId);
+        return new PageImpl<>(content, shared.getPageable(), shared.getTotalElements());
+    }
+
+    /**
+     * 현재 사용자의 좋아요 여부를 목록 단위로 반영 (원본 목록은 변경하지 않음)
+     */
+    public List<PostDto.ListResponse> applyLiked(List<PostDto.ListResponse> shared, Long currentUserId) {
+        if (shared.isEmpty() || currentUserId == null) {
+            return shared;
+        }
+
+        List<Long> postIds = shared.stream()
+                .map(PostDto.ListResponse::getId)
+                .toList();
+        Set<Long> likedPostIds = likeStatusResolver.likedPostIds(currentUserId, postIds);
+
+        return shared.stream()
+                .map(response -> response.withLiked(likedPostIds.contains(response.getId())))
+                .toList();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.burtyserver.domain.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.PostDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 앞쪽 페이지(0~2)의 사용자 무관 목록 캐시
+ * 좋아요 여부는 요청마다 별도로 반영하고, 게시글 생성/수정/삭제 시 관련 게시판 항목을 제거
+ * 페이지 크기는 page-sizes 에 지정한 값만 캐시 (임의 크기 요청으로 큰 페이지가 캐시를 채우지 않도록)
+ */
+@Component
+public class PostFeedCache {
+    private static final Set<String> CACHEABLE_SORT_PROPERTIES = Set.of("createdAt", "viewCount");
+
+    private final Cache<FeedKey, Page<PostDto.ListResponse>> cache;
+    private final int maxCachedPage;
+    private final Set<Integer> cacheablePageSizes;
+
+    public PostFeedCache(
+            @Value("${app.community.feed-cache.max-size:1000}") long maxSize,
+            @Value("${app.community.feed-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.community.feed-cache.max-page:2}") int maxCachedPage,
+            @Value("${app.community.feed-cache.page-sizes:10}") Set<Integer> cacheablePageSizes
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.maxCachedPage = maxCachedPage;
+        this.cacheablePageSizes = Set.copyOf(cacheablePageSizes);
+    }
+
+    /**
+     * 캐시 대상 요청인지 확인 (앞쪽 페이지 + 허용된 페이지 크기 + 작성일/조회수 정렬 또는 정렬 없음)
+     */
+    public boolean isCacheable(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() > maxCachedPage
+                || !cacheablePageSizes.contains(pageable.getPageSize())) {
+            return false;
+        }
+        return pageable.getSort().stream()
+                .allMatch(order -> CACHEABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader 결과를 저장 후 반환)
+     *
+     * @param categoryId 카테고리 ID (전체 게시판은 null)
+     */
+    public Page<PostDto.ListResponse> get(Long categoryId, Pageable pageable, Supplier<Page<PostDto.ListResponse>> loader) {
+        FeedKey key = new FeedKey(categoryId, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 게시글 변경 커밋 후 전체 게시판과 해당 카테고리 게시판 캐시 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Set<Long> categoryIds = event.getCategoryIds();
+        cache.asMap().keySet().removeIf(key ->
+                key.getCategoryId() == null || categoryIds.contains(key.getCategoryId()));
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class FeedKey {
+        private final Long categoryId;
+        private final int page;
+        private final int size;
+        private final Sort sort;
+    }
+}
@@ -1,16 +1,15 @@
 package org.example.burtyserver.domain.community.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.UniqueConstraint;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.event.PostInteractionEvent;
+import org.example.burtyserver.domain.community.model.dto.LikeDto;
 import org.example.burtyserver.domain.community.model.dto.PostDto;
-import org.example.burtyserver.domain.community.model.entity.Post;
-import org.example.burtyserver.domain.community.model.entity.PostLike;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
 import org.example.burtyserver.domain.community.model.repository.PostLikeRepository;
 import org.example.burtyserver.domain.community.model.repository.PostRepository;
-import org.example.burtyserver.domain.user.model.entity.User;
-import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Pageable;
@@ -22,27 +21,16 @@ import org.springframework.data.domain.Pageable;
 @RequiredArgsConstructor
 public class PostLikeService {
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostFeedAssembler postFeedAssembler;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 좋아요 추가
      */
     @Transactional
     public boolean addLike(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾ㅇ르 수 없습니다. ID :" +postId));
-
-        if (postLikeRepository.existsByPostAndUser(post, user)){
-            return false; //이미 좋아요가 존재
-        }
-
-        PostLike postLike = post.addLike(user);
-        postLikeRepository.save(postLike);
-        return true;
+        return isChanged(applyLike(userId, postId, true), postId);
     }
 
     /**
@@ -50,53 +38,76 @@ public class PostLikeService {
      */
     @Transactional
     public boolean removeLike(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId));
+        return isChanged(applyLike(userId, postId, false), postId);
+    }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾ㅇ르 수 없습니다. ID :" +postId));
+    /**
+     * 게시글 좋아요 상태 적용
+     * 단일 INSERT IGNORE / DELETE 로 처리하고, 영향받은 행이 없을 때만 원인 확인
+     */
+    @Transactional
+    public LikeDto.Result applyLike(Long userId, Long postId, boolean liked) {
+        int affected = liked
+                ? postLikeRepository.insertIgnore(postId, userId)
+                : postLikeRepository.deleteByPostIdAndUserId(postId, userId);
 
-        PostLike postLike = postLikeRepository.findByPostAndUser(post, user).orElse(null);
+        if (affected == 0) {
+            return resolveNoop(userId, postId, liked);
+        }
 
-        if (postLike == null) return false;
+        postRepository.addLikeCount(postId, liked ? 1 : -1);
+        eventPublisher.publishEvent(new PostInteractionEvent(
+                liked ? PostInteractionEvent.Type.LIKED : PostInteractionEvent.Type.UNLIKED, postId, userId));
+        return LikeDto.Result.CHANGED;
+    }
 
-        post.removeLike(user);
-        postLikeRepository.delete(postLike);
-        return true;
+    /**
+     * 영향받은 행이 없는 원인 확인
+     * INSERT IGNORE 는 중복 키 외의 오류(사용자 외래 키 위반 등)도 무시하므로, 좋아요 행이 실제로 있을 때만 UNCHANGED
+     */
+    private LikeDto.Result resolveNoop(Long userId, Long postId, boolean liked) {
+        if (!postRepository.existsById(postId)) {
+            return LikeDto.Result.NOT_FOUND;
+        }
+        if (!liked || postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+            return LikeDto.Result.UNCHANGED;
+        }
+        throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId);
     }
 
     /**
      * 게시글 좋아요 여부 확인
      */
     public boolean checkLike(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId));
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾ㅇ르 수 없습니다. ID :" +postId));
-
-        return postLikeRepository.existsByPostAndUser(post, user);
+        if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+            return true;
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+        return false;
     }
 
     /**
      * 게시글 좋아요 수 조회
      */
     public long getLikeCount(Long postId) {
-        Post post = postRepository.findById(postId)
+        return postRepository.findLikeCountById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+    }
 
-        return postLikeRepository.countByPost(post);
+    private boolean isChanged(LikeDto.Result result, Long postId) {
+        if (result == LikeDto.Result.NOT_FOUND) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+        return result == LikeDto.Result.CHANGED;
     }
 
      /**
      * 사용자가 좋아요한 게시글 목록 페이징 조회
      */
     public Page<PostDto.ListResponse> getLikedPostsByUser(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        Page<Post> likePosts = postLikeRepository.findPostLikedByUser(userId, pageable);
-
-        return likePosts.map(post -> PostDto.ListResponse.from(post, user));
+        Page<PostFeedRow> likedPosts = postLikeRepository.findFeedRowsLikedByUser(userId, pageable);
+        return postFeedAssembler.assemble(likedPosts, userId);
     }
 }
@@ -0,0 +1,184 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostPurgeRequestedEvent;
+import org.example.burtyserver.domain.community.model.repository.CommentLikeRepository;
+import org.example.burtyserver.domain.community.model.repository.CommentRepository;
+import org.example.burtyserver.domain.community.model.repository.PostLikeRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 하위 데이터 일괄 삭제
+ * 컬렉션을 로딩하지 않고 댓글 좋아요 -> 댓글 -> 게시글 좋아요 -> 카테고리 연결 -> 게시글 순으로 벌크 DELETE
+ * 큰 게시글은 숨김 처리 후 전용 스레드에서 짧은 트랜잭션으로 나누어 삭제
+ * 삭제가 끝나지 않은 숨김 게시글은 주기적으로 다시 처리
+ */
+@Slf4j
+@Component
+public class PostPurger {
+    private static final int CHUNK_SIZE = 1000;
+    private static final long SHUTDOWN_WAIT_SECONDS = 10L;
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int asyncThreshold;
+    private final ExecutorService executor;
+    // 대기열에 있거나 삭제 중인 게시글 (재처리 주기와 삭제 요청이 겹쳐도 한 번만 실행)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PostPurger(
+            PostRepository postRepository,
+            PostLikeRepository postLikeRepository,
+            CommentRepository commentRepository,
+            CommentLikeRepository commentLikeRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.community.post-delete.async-threshold:500}") int asyncThreshold
+    ) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.commentRepository = commentRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.asyncThreshold = asyncThreshold;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 숨김 처리 후 백그라운드에서 삭제할 게시글인지 여부 (댓글 + 좋아요 수가 기준을 넘는 경우)
+     */
+    public boolean shouldPurgeInBackground(int commentCount, int likeCount) {
+        return commentCount + likeCount > asyncThreshold;
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 게시글과 하위 데이터를 즉시 삭제
+     */
+    public void purgeNow(Long postId) {
+        commentLikeRepository.deleteAllByPostId(postId);
+        commentRepository.deleteAllByPostId(postId);
+        postLikeRepository.deleteAllByPostId(postId);
+        postRepository.deleteCategoryLinks(postId);
+        postRepository.deleteRowById(postId);
+    }
+
+    /**
+     * 숨김 처리된 게시글의 백그라운드 삭제 요청 (커밋 후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPurgeRequested(PostPurgeRequestedEvent event) {
+        submit(event.getPostId());
+    }
+
+    /**
+     * 삭제가 끝나지 않은 게시글 재처리 (시작 직후 및 주기적으로 실행, 실패한 삭제도 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${app.community.post-delete.retry-ms:600000}")
+    public void resumePending() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        List<Long> postIds = postRepository.findDeletedIds();
+        int submitted = 0;
+        for (Long postId : postIds) {
+            if (submit(postId)) {
+                submitted++;
+            }
+        }
+        if (submitted > 0) {
+            log.info("삭제 대기 게시글 {}건 재처리", submitted);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 작업을 받지 않고 진행 중인 삭제를 잠시 기다린 뒤 중단
+     * 중단된 게시글은 숨김 상태로 남아 다음 기동 후 재처리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                List<Runnable> dropped = executor.shutdownNow();
+                log.warn("게시글 백그라운드 삭제 종료 대기 초과 - 대기 중 {}건은 다음 기동 시 재처리", dropped.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean submit(Long postId) {
+        if (!inFlight.add(postId)) {
+            return false;
+        }
+        try {
+            executor.submit(() -> {
+                try {
+                    purgeInChunks(postId);
+                } finally {
+                    inFlight.remove(postId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (숨김 상태로 남아 다음 기동 후 재처리)
+            inFlight.remove(postId);
+            return false;
+        }
+    }
+
+    private void purgeInChunks(Long postId) {
+        try {
+            List<Long> commentIds;
+            do {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("게시글 백그라운드 삭제 중단 - ID: {}, 다음 재처리 시 이어서 삭제", postId);
+                    return;
+                }
+                commentIds = commentRepository.findIdsByPostId(postId, CHUNK_SIZE);
+                List<Long> chunk = commentIds;
+                if (!chunk.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        commentLikeRepository.deleteAllByCommentIds(chunk);
+                        commentRepository.deleteRowsByIds(chunk);
+                    });
+                }
+            } while (commentIds.size() == CHUNK_SIZE);
+
+            Integer deletedLikes;
+            do {
+                deletedLikes = transactionTemplate.execute(status -> postLikeRepository.deleteChunkByPostId(postId, CHUNK_SIZE));
+            } while (deletedLikes != null && deletedLikes == CHUNK_SIZE);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                postRepository.deleteCategoryLinks(postId);
+                postRepository.deleteRowById(postId);
+            });
+            log.info("게시글 백그라운드 삭제 완료 - ID: {}", postId);
+        } catch (RuntimeException e) {
+            // 숨김 상태로 남아 다음 재처리 주기에 다시 시도
+            log.error("게시글 백그라운드 삭제 실패 - ID: {}", postId, e);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.RecategorizationDto;
+import org.example.burtyserver.domain.community.model.entity.RecategorizationJob;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.community.model.repository.RecategorizationJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키워드 사전 변경 후 전체 게시글 일괄 재분류 (관리자 실행)
+ * 시작 시점의 최대 ID 까지 ID 순으로 chunk-size 건씩 읽어 threads 개 스레드에서 병렬로 키워드 매칭하고,
+ * 기존 카테고리와의 차이만 JDBC 배치로 추가/삭제
+ * 청크는 ID 순으로 완료 처리하며 마지막 처리 ID 를 작업 테이블에 기록하므로, 중단/장애 후 그 지점부터 재개
+ * 읽는 중 수정된 게시글(버전 변경)은 수정 시 이미 새 사전으로 분류되었으므로 건너뜀
+ * 작업은 owner/heartbeat 조건부 UPDATE 로 선점하므로 여러 인스턴스 중 한 곳에서만 실행되고,
+ * 하트비트가 heartbeat-timeout-ms 이상 끊긴 작업만 다른 인스턴스가 이어받음
+ */
+@Slf4j
+@Service
+public class PostRecategorizationService {
+    private static final String INSERT_LINK_SQL = "INSERT IGNORE INTO post_categories (post_id, category_id) VALUES (?, ?)";
+    private static final String DELETE_LINK_SQL = "DELETE FROM post_categories WHERE post_id = ? AND category_id = ?";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final PostRepository postRepository;
+    private final CategoryPostCountBuffer categoryPostCountBuffer;
+    private final RecategorizationJobRepository jobRepository;
+    private final KeywordExtractionService keywordExtractionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+    private final long heartbeatTimeoutMs;
+    private final ExecutorService launcher;
+    // 작업 선점에 쓰는 인스턴스 식별자 (pid@host + 재시작 구분용 난수)
+    private final String instanceId;
+
+    // 현재 인스턴스에서 실행 중인 작업 ID (this 로 동기화)
+    private Long runningJobId;
+    private volatile boolean stopRequested;
+
+    public PostRecategorizationService(
+            PostRepository postRepository,
+            CategoryPostCountBuffer categoryPostCountBuffer,
+            RecategorizationJobRepository jobRepository,
+            KeywordExtractionService keywordExtractionService,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.community.recategorize.chunk-size:500}") int chunkSize,
+            @Value("${app.community.recategorize.threads:4}") int threads,
+            @Value("${app.community.recategorize.heartbeat-timeout-ms:300000}") long heartbeatTimeoutMs
+    ) {
+        this.postRepository = postRepository;
+        this.categoryPostCountBuffer = categoryPostCountBuffer;
+        this.jobRepository = jobRepository;
+        this.keywordExtractionService = keywordExtractionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.threads = Math.max(1, threads);
+        this.heartbeatTimeoutMs = Math.max(1000L, heartbeatTimeoutMs);
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.launcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-recategorizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 일괄 재분류 시작
+     * 완료되지 않은 마지막 작업이 있으면 선점 후 그 지점부터 재개
+     *
+     * @param restart true 면 이전 작업과 관계없이 처음부터 시작
+     * @return 시작한 작업 진행 상황 (이 인스턴스나 다른 인스턴스에서 이미 실행 중이면 빈 값)
+     */
+    public synchronized Optional<RecategorizationDto.Progress> start(boolean restart) {
+        if (runningJobId != null) {
+            return Optional.empty();
+        }
+        // 최신 키워드 사전으로 분류
+        keywordExtractionService.refreshKeywords();
+
+        RecategorizationJob job = transactionTemplate.execute(status -> {
+            // 마지막 작업 행을 잠가 여러 인스턴스의 동시 시작을 직렬화
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = staleBefore(now);
+            Optional<RecategorizationJob> latest = jobRepository.findLatestForUpdate();
+            if (latest.isPresent() && latest.get().isAlive(staleBefore)) {
+                return null;
+            }
+            if (!restart && latest.isPresent() && latest.get().getStatus() != RecategorizationJob.Status.COMPLETED) {
+                Long jobId = latest.get().getId();
+                if (jobRepository.claim(jobId, instanceId, now, staleBefore) == 0) {
+                    return null;
+                }
+                return jobRepository.findById(jobId).orElse(null);
+            }
+            return jobRepository.save(RecategorizationJob.builder()
+                    .status(RecategorizationJob.Status.RUNNING)
+                    .lastPostId(0L)
+                    .maxPostId(postRepository.findMaxId())
+                    .owner(instanceId)
+                    .heartbeatAt(now)
+                    .build());
+        });
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        runningJobId = job.getId();
+        stopRequested = false;
+        launcher.execute(() -> run(job.getId()));
+        return Optional.of(RecategorizationDto.Progress.from(job, true));
+    }
+
+    /**
+     * 실행 중인 작업 중단 요청 (진행 중인 청크까지 기록 후 종료)
+     *
+     * @return 실행 중인 작업이 있었는지 여부
+     */
+    public synchronized boolean stop() {
+        if (runningJobId == null) {
+            return false;
+        }
+        stopRequested = true;
+        return true;
+    }
+
+    /**
+     * 마지막 작업 진행 상황 조회
+     * 실행 여부는 하트비트 기준이므로 다른 인스턴스에서 실행 중인 작업도 포함
+     */
+    public RecategorizationDto.Progress getProgress() {
+        RecategorizationJob job = jobRepository.findTopByOrderByIdDesc()
+                .orElseThrow(() -> new EntityNotFoundException("재분류 작업 이력이 없습니다."));
+        return RecategorizationDto.Progress.from(job, isRunning(job.getId()) || job.isAlive(staleBefore(LocalDateTime.now())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 작업은 마지막 기록 지점부터 재개 가능
+        stopRequested = true;
+        launcher.shutdownNow();
+    }
+
+    private synchronized boolean isRunning(Long jobId) {
+        return jobId.equals(runningJobId);
+    }
+
+    private LocalDateTime staleBefore(LocalDateTime now) {
+        return now.minusNanos(heartbeatTimeoutMs * 1_000_000L);
+    }
+
+    private void run(Long jobId) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "post-recategorizer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        RecategorizationJob.Status result = RecategorizationJob.Status.FAILED;
+        String error = null;
+        try {
+            RecategorizationJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new EntityNotFoundException("재분류 작업을 찾을 수 없습니다."));
+            log.info("게시글 일괄 재분류 시작 - 작업 ID: {}, {}번 이후 ~ {}번", jobId, job.getLastPostId(), job.getMaxPostId());
+            result = scan(job, workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = RecategorizationJob.Status.STOPPED;
+        } catch (Exception e) {
+            log.error("게시글 일괄 재분류 실패 - 작업 ID: {}", jobId, e);
+            error = truncate(String.valueOf(e.getCause() != null ? e.getCause() : e));
+        } finally {
+            workers.shutdownNow();
+            finish(jobId, result, error);
+        }
+    }
+
+    /**
+     * ID 순으로 청크를 읽어 병렬 처리하고, 앞선 청크부터 순서대로 완료 지점 기록
+     * 동시에 처리 중인 청크는 threads * 2 개로 제한하여 메모리 사용량을 일정하게 유지
+     */
+    private RecategorizationJob.Status scan(RecategorizationJob job, ExecutorService workers) throws Exception {
+        Progress progress = new Progress(job);
+        ArrayDeque<Pending> inFlight = new ArrayDeque<>();
+        long lastReadId = job.getLastPostId();
+        boolean exhausted = false;
+
+        while (!exhausted || !inFlight.isEmpty()) {
+            if (stopRequested) {
+                // 이미 제출한 청크는 마저 처리하고 기록
+                while (!inFlight.isEmpty()) {
+                    complete(job.getId(), inFlight.pollFirst(), progress);
+                }
+                return RecategorizationJob.Status.STOPPED;
+            }
+            if (!exhausted && inFlight.size() < threads * 2) {
+                List<PostRepository.PostContentVersionView> chunk = postRepository.findContentsBetween(
+                        lastReadId, job.getMaxPostId(), PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    exhausted = true;
+                    continue;
+                }
+                lastReadId = chunk.get(chunk.size() - 1).getId();
+                exhausted = chunk.size() < chunkSize;
+                inFlight.addLast(new Pending(lastReadId, chunk.size(), workers.submit(() -> recategorize(chunk))));
+                continue;
+            }
+            complete(job.getId(), inFlight.pollFirst(), progress);
+        }
+        return RecategorizationJob.Status.COMPLETED;
+    }
+
+    /**
+     * 청크 완료 지점 기록 (하트비트 갱신)
+     * 하트비트가 끊긴 사이 다른 인스턴스가 작업을 이어받았으면 기록하지 않고 중단
+     */
+    private void complete(Long jobId, Pending pending, Progress progress) throws InterruptedException, ExecutionException {
+        ChunkResult result = pending.future.get();
+        progress.add(pending.size, result);
+        transactionTemplate.executeWithoutResult(status -> {
+            RecategorizationJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new EntityNotFoundException("재분류 작업을 찾을 수 없습니다."));
+            if (!job.isOwnedBy(instanceId)) {
+                throw new IllegalStateException("다른 인스턴스가 재분류 작업을 이어받았습니다. 소유: " + job.getOwner());
+            }
+            job.checkpoint(pending.lastPostId, progress.scanned, progress.changed, progress.added, progress.removed);
+        });
+    }
+
+    /**
+     * 한 청크 재분류
+     * 키워드 매칭은 트랜잭션 밖에서 수행하고, 변경분만 짧은 트랜잭션으로 반영
+     */
+    private ChunkResult recategorize(List<PostRepository.PostContentVersionView> chunk) {
+        Map<Long, PostRepository.PostContentVersionView> rowsById = new HashMap<>();
+        Map<Long, Set<Long>> desiredByPost = new HashMap<>();
+        for (PostRepository.PostContentVersionView row : chunk) {
+            rowsById.put(row.getId(), row);
+            desiredByPost.put(row.getId(), keywordExtractionService.extractCategoryIds(row.getContent()));
+        }
+
+        ChunkResult result = transactionTemplate.execute(status -> {
+            // 그사이 수정(버전 증가)되었거나 삭제된 게시글은 제외
+            List<Long> postIds = new ArrayList<>();
+            for (PostRepository.PostVersionView locked : postRepository.lockVersions(rowsById.keySet())) {
+                if (locked.getVersion().equals(rowsById.get(locked.getId()).getVersion())) {
+                    postIds.add(locked.getId());
+                }
+            }
+            if (postIds.isEmpty()) {
+                return new ChunkResult(0, 0, 0);
+            }
+
+            Map<Long, Set<Long>> currentByPost = new HashMap<>();
+            for (PostRepository.CategoryIdView link : postRepository.findCategoryIdsByPostIds(postIds)) {
+                currentByPost.computeIfAbsent(link.getPostId(), id -> new HashSet<>()).add(link.getCategoryId());
+            }
+
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> deletes = new ArrayList<>();
+            Map<Long, Integer> deltaByCategory = new HashMap<>();
+            List<Long> changedIds = new ArrayList<>();
+            for (Long postId : postIds) {
+                Set<Long> desired = desiredByPost.get(postId);
+                Set<Long> current = currentByPost.getOrDefault(postId, Set.of());
+                if (desired.equals(current)) {
+                    continue;
+                }
+                changedIds.add(postId);
+                for (Long categoryId : desired) {
+                    if (!current.contains(categoryId)) {
+                        inserts.add(new Object[]{postId, categoryId});
+                        deltaByCategory.merge(categoryId, 1, Integer::sum);
+                    }
+                }
+                for (Long categoryId : current) {
+                    if (!desired.contains(categoryId)) {
+                        deletes.add(new Object[]{postId, categoryId});
+                        deltaByCategory.merge(categoryId, -1, Integer::sum);
+                    }
+                }
+            }
+            if (changedIds.isEmpty()) {
+                return new ChunkResult(0, 0, 0);
+            }
+
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_LINK_SQL, inserts);
+            }
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_LINK_SQL, deletes);
+            }
+            categoryPostCountBuffer.add(deltaByCategory);
+            // 읽은 버전으로 시작한 수정은 낙관적 잠금으로 실패, 게시글 ETag 갱신
+            postRepository.incrementVersions(changedIds);
+
+            for (Long postId : changedIds) {
+                Set<Long> desired = desiredByPost.get(postId);
+                Set<Long> affected = new HashSet<>(desired);
+                affected.addAll(currentByPost.getOrDefault(postId, Set.of()));
+                // 내용은 그대로이고 카테고리만 바뀌었으므로 CATEGORIZED (이전 + 새 카테고리 캐시 무효화)
+                eventPublisher.publishEvent(new PostChangedEvent(
+                        PostChangedEvent.Type.CATEGORIZED, postId, affected, desired, rowsById.get(postId).getContent()));
+            }
+            return new ChunkResult(changedIds.size(), inserts.size(), deletes.size());
+        });
+        return (result != null) ? result : new ChunkResult(0, 0, 0);
+    }
+
+    private void finish(Long jobId, RecategorizationJob.Status result, String error) {
+        try {
+            // 다른 인스턴스가 이어받은 작업은 그쪽 상태를 덮어쓰지 않음
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId)
+                    .filter(job -> job.isOwnedBy(instanceId))
+                    .ifPresent(job -> {
+                        job.finish(result, error);
+                        log.info("게시글 일괄 재분류 종료 - 작업 ID: {}, 상태: {}, 확인 {}건, 변경 {}건 (추가 {}, 삭제 {})",
+                                jobId, result, job.getScannedPosts(), job.getChangedPosts(), job.getAddedLinks(), job.getRemovedLinks());
+                    }));
+        } catch (RuntimeException e) {
+            log.error("재분류 작업 상태 기록 실패 - 작업 ID: {}", jobId, e);
+        } finally {
+            synchronized (this) {
+                runningJobId = null;
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        return (message.length() > MAX_ERROR_LENGTH) ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * 누적 처리 결과 (실행 스레드에서만 갱신)
+     */
+    private static class Progress {
+        private long scanned;
+        private long changed;
+        private long added;
+        private long removed;
+
+        private Progress(RecategorizationJob job) {
+            this.scanned = job.getScannedPosts();
+            this.changed = job.getChangedPosts();
+            this.added = job.getAddedLinks();
+            this.removed = job.getRemovedLinks();
+        }
+
+        private void add(int size, ChunkResult result) {
+            scanned += size;
+            changed += result.changed;
+            added += result.added;
+            removed += result.removed;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Pending {
+        private final Long lastPostId;
+        private final int size;
+        private final Future<ChunkResult> future;
+    }
+
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final int changed;
+        private final int added;
+        private final int removed;
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 내용 전문 검색용 메모리 역색인
+ * 한글은 음절 2-gram/3-gram, 그 외 문자열은 단어 단위로 색인하고 BM25 로 점수 계산
+ * 게시글 생성/수정/삭제 이벤트로 갱신하며, 애플리케이션 시작 시 별도 스레드에서 ID 순 배치 조회로 재구성
+ * 재구성이 끝나기 전(색인 준비 중)이나 한 글자 한글 검색어는 색인으로 찾을 수 없으므로 호출 측에서 DB 부분 일치 검색으로 대체
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> (게시글 ID -> 출현 횟수)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 게시글 ID -> 색인된 토큰 목록 (수정/삭제 시 제거용)
+    private final Map<Long, String[]> documentTerms = new HashMap<>();
+    // 게시글 ID -> 전체 토큰 수
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    // 재구성 중 이벤트로 먼저 반영된 게시글 (배치 조회 결과로 덮어쓰지 않음, 재구성 완료 후 null)
+    private Set<Long> touchedDuringRebuild = new HashSet<>();
+    // 시작 시 재구성 완료 여부
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 색인으로 검색 가능한 검색어인지 확인
+     * 색인 준비 중이거나, 한 글자 한글 토큰(2-gram 이상으로만 색인됨)이 포함되면 false
+     */
+    public boolean canSearch(String query) {
+        if (!ready) {
+            return false;
+        }
+        for (String term : tokenize(query).keySet()) {
+            if (term.length() == 1 && containsHangul(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검색어와 관련도가 높은 게시글 ID 조회
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        String normalized = (query.length() > MAX_QUERY_LENGTH) ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        Set<String> queryTerms = tokenize(normalized).keySet();
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Map<Long, double[]> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                postingList.forEach((postId, frequency) -> {
+                    double lengthRatio = documentLengths.get(postId) / averageLength;
+                    double weight = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                    double[] score = scores.computeIfAbsent(postId, id -> new double[2]);
+                    score[0] += weight;
+                    score[1]++;
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 검색어 토큰을 많이 포함할수록(연속된 문자열에 가까울수록) 우선
+        List<Scored> ranked = new ArrayList<>(scores.size());
+        scores.forEach((postId, score) -> {
+            double coverage = score[1] / queryTerms.size();
+            ranked.add(new Scored(postId, score[0] * coverage * coverage));
+        });
+        ranked.sort((a, b) -> (a.score != b.score)
+                ? Double.compare(b.score, a.score)
+                : Long.compare(b.postId, a.postId));
+
+        List<Long> postIds = ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(scored -> scored.postId)
+                .toList();
+        return new SearchResult(postIds, ranked.size());
+    }
+
+    /**
+     * 게시글 색인 (기존 색인은 교체)
+     */
+    public void index(Long postId, String content) {
+        Map<String, Integer> terms = tokenize(content);
+        lock.writeLock().lock();
+        try {
+            indexInternal(postId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 생성/수정/삭제 커밋 후 색인 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 카테고리 분류는 내용이 바뀌지 않으므로 재색인 불필요
+        if (event.getType() == PostChangedEvent.Type.CATEGORIZED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(event.getPostId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        } else {
+            index(event.getPostId(), event.getContent());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 별도 스레드에서 색인 재구성 (요청 처리와 기동을 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        Thread indexer = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("게시글 검색 색인 구성 실패 - DB 부분 일치 검색으로 계속 대체", e);
+            }
+        }, "post-search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
+
+    /**
+     * 전체 게시글을 ID 순으로 나누어 읽으며 색인 구성
+     */
+    void rebuild() {
+        long lastId = 0L;
+        int indexed = 0;
+        List<PostRepository.PostContentView> batch;
+        do {
+            batch = postRepository.findContentsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (PostRepository.PostContentView row : batch) {
+                lastId = row.getId();
+                Map<String, Integer> terms = tokenize(row.getContent());
+                lock.writeLock().lock();
+                try {
+                    if (!touchedDuringRebuild.contains(row.getId())) {
+                        indexInternal(row.getId(), terms);
+                        indexed++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        int termCount;
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+            termCount = postings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("게시글 검색 색인 구성 완료 - 게시글 {}건, 토큰 {}종", indexed, termCount);
+    }
+
+    /**
+     * 검색 색인 토큰화 (토큰 -> 출현 횟수)
+     * 한글이 포함된 연속 문자열은 2-gram/3-gram, 그 외는 문자열 전체를 토큰으로 사용
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addRunTerms(lower.substring(start, i), terms);
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addRunTerms(String run, Map<String, Integer> terms) {
+        if (!containsHangul(run) || run.length() == 1) {
+            terms.merge(run, 1, Integer::sum);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            terms.merge(run.substring(i, i + 2), 1, Integer::sum);
+            if (i + 3 <= run.length()) {
+                terms.merge(run.substring(i, i + 3), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static boolean containsHangul(String run) {
+        for (int i = 0; i < run.length(); i++) {
+            char c = run.charAt(i);
+            if (c >= '가' && c <= '힣') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void indexInternal(Long postId, Map<String, Integer> terms) {
+        removeInternal(postId);
+        int length = 0;
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(postId, term.getValue());
+            length += term.getValue();
+        }
+        documentTerms.put(postId, terms.keySet().toArray(new String[0]));
+        documentLengths.put(postId, length);
+        totalLength += length;
+    }
+
+    private void removeInternal(Long postId) {
+        String[] terms = documentTerms.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(postId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(postId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        // 요청한 페이지의 게시글 ID (관련도 순)
+        private final List<Long> postIds;
+        // 검색된 전체 게시글 수
+        private final long total;
+    }
+
+    @AllArgsConstructor
+    private static class Scored {
+        private final Long postId;
+        private final double score;
+    }
+}
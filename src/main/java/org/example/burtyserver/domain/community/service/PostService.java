@@ -1,23 +1,43 @@
 package org.example.burtyserver.domain.community.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.community.event.PostCategorizationRequestedEvent;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.event.PostPurgeRequestedEvent;
+import org.example.burtyserver.domain.community.model.dto.CommentDto;
+import org.example.burtyserver.domain.community.model.dto.CursorPage;
+import org.example.burtyserver.domain.community.model.dto.FeedCursor;
+import org.example.burtyserver.domain.community.model.dto.FeedSort;
 import org.example.burtyserver.domain.community.model.dto.PostDto;
+import org.example.burtyserver.domain.community.model.dto.PostFeedRow;
 import org.example.burtyserver.domain.community.model.entity.BoardCategory;
 import org.example.burtyserver.domain.community.model.entity.Post;
 import org.example.burtyserver.domain.community.model.repository.BoardCategoryRepository;
+import org.example.burtyserver.domain.community.model.repository.CategoryPostCountRepository;
 import org.example.burtyserver.domain.community.model.repository.PostRepository;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
+import org.example.burtyserver.global.datasource.PrimaryReader;
+import org.example.burtyserver.global.exception.InvalidCursorException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,30 +46,61 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class PostService {
+    private static final int MAX_SCROLL_SIZE = 50;
+    // 게시글 상세에 함께 내려주는 댓글 수
+    private static final int DETAIL_COMMENT_SIZE = 20;
 
     private final PostRepository postRepository;
     private final BoardCategoryRepository boardCategoryRepository;
+    private final CategoryPostCountRepository categoryPostCountRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final KeywordExtractionService keywordExtractionService;
+    private final PostFeedAssembler postFeedAssembler;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CategoryPostCountBuffer categoryPostCountBuffer;
+    private final PostFeedCache postFeedCache;
+    private final HotPostRanking hotPostRanking;
+    private final PostSearchIndex postSearchIndex;
+    private final PersonalizedFeedStore personalizedFeedStore;
+    private final CommentService commentService;
+    private final LikeStatusResolver likeStatusResolver;
+    private final PostPurger postPurger;
+    private final ContentVersions contentVersions;
+    private final PostCategorizer postCategorizer;
+    private final PrimaryReader primaryReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
+     * 비동기 분류 사용 시 카테고리 없이 저장하고 커밋 후 PostCategorizer 가 분류
      */
     @Transactional
     public Post createPost(Long userId, PostDto.PostRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        User user = userRepository.getReferenceById(userId);
 
-        Set<BoardCategory> categories = keywordExtractionService.extractCategoriesFromContent(
-                request.getContent()
-        );
+        Set<BoardCategory> categories = postCategorizer.isAsync()
+                ? new HashSet<>()
+                : keywordExtractionService.extractCategoriesFromContent(request.getContent());
 
         Post post = Post.builder()
                 .content(request.getContent())
                 .author(user)
                 .build();
         post.setCategories(categories);
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+
+        Set<Long> categoryIds = categoryIds(categories);
+        adjustCategoryPostCounts(Set.of(), categoryIds);
+        eventPublisher.publishEvent(new PostChangedEvent(
+                PostChangedEvent.Type.CREATED, savedPost.getId(), categoryIds, categoryIds, savedPost.getContent()));
+        if (postCategorizer.isAsync()) {
+            eventPublisher.publishEvent(new PostCategorizationRequestedEvent(savedPost.getId(), savedPost.getContent()));
+        }
+        return savedPost;
     }
 
     /**
@@ -57,8 +108,9 @@ public class PostService {
      */
     @Transactional
     public Post updatePost(Long userId, Long postId, PostDto.PostRequest request) throws AccessDeniedException {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID : " + userId);
+        }
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID : "+ postId));
@@ -67,11 +119,21 @@ public class PostService {
             throw new AccessDeniedException("게시글을 수정할 권한이 없습니다.");
         }
 
+        Set<Long> previousCategoryIds = categoryIds(post.getCategories());
         Set<BoardCategory> categories = keywordExtractionService.extractCategoriesFromContent(
                 request.getContent()
         );
-        post.setCategories(categories);
-        return postRepository.save(post);
+        post.update(request.getContent(), categories);
+        Post savedPost = postRepository.save(post);
+
+        Set<Long> currentCategoryIds = categoryIds(categories);
+        adjustCategoryPostCounts(previousCategoryIds, currentCategoryIds);
+        Set<Long> affectedCategoryIds = new HashSet<>(previousCategoryIds);
+        affectedCategoryIds.addAll(currentCategoryIds);
+        eventPublisher.publishEvent(new PostChangedEvent(
+                PostChangedEvent.Type.UPDATED, postId, affectedCategoryIds, currentCategoryIds,
+                savedPost.getContent()));
+        return savedPost;
     }
 
     /**
@@ -79,9 +141,6 @@ public class PostService {
      */
     @Transactional
     public void deletePost(Long userId, Long postId) throws AccessDeniedException {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
-
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
 
@@ -90,84 +149,306 @@ public class PostService {
             throw new AccessDeniedException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        postRepository.delete(post);
+        Set<Long> affectedCategoryIds = categoryIds(post.getCategories());
+        adjustCategoryPostCounts(affectedCategoryIds, Set.of());
+        if (postPurger.shouldPurgeInBackground(post.getCommentCount(), post.getLikeCount())) {
+            postRepository.markDeleted(postId);
+            eventPublisher.publishEvent(new PostPurgeRequestedEvent(postId));
+        } else {
+            postPurger.purgeNow(postId);
+        }
+
+        eventPublisher.publishEvent(new PostChangedEvent(
+                PostChangedEvent.Type.DELETED, postId, affectedCategoryIds, Set.of(), null));
     }
 
     /**
      * 게시글 상세 조회
+     * 조회수는 ViewCountBuffer 에 누적 후 주기적으로 반영되므로 읽기 전용 트랜잭션으로 처리
+     * 방금 작성되어 replica 에 아직 없는 게시글(예: 실시간 알림 직후 조회)은 primary 에서 다시 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto.DetailResponse getPostDetail(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+        Optional<PostDto.DetailResponse> detail = findPostDetail(postId, userId);
+        if (detail.isEmpty()) {
+            detail = primaryReader.read(() -> findPostDetail(postId, userId));
+        }
+        return detail.orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
+    }
+
+    private Optional<PostDto.DetailResponse> findPostDetail(Long postId, Long userId) {
+        Optional<Post> found = postRepository.findById(postId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Post post = found.get();
+
+        viewCountBuffer.increment(postId);
+        boolean liked = likeStatusResolver.isPostLiked(userId, postId);
+
+        CursorPage<CommentDto.Response> comments = commentService.getCommentPage(postId, null, DETAIL_COMMENT_SIZE, userId);
+        Map<Long, Integer> categoryPostCounts = categoryPostCountRepository.findPostCounts(categoryIds(post.getCategories()));
+        return Optional.of(PostDto.DetailResponse.from(post, userId, liked, viewCountBuffer.pendingCount(postId), comments,
+                categoryPostCounts));
+    }
 
-        post.incrementViewCount();
-        postRepository.save(post);
-        User currentUser;
-        currentUser = userRepository.findById(userId).orElse(null);
+    /**
+     * 게시글 상세 ETag (버전 컬럼만 조회, 게시글이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public String getPostDetailETag(Long postId, Long userId) {
+        return postRepository.findVersionById(postId)
+                .map(version -> contentVersions.postTag(postId, version, userId))
+                .orElse(null);
+    }
 
-        return PostDto.DetailResponse.from(post, currentUser);
+    /**
+     * 본문 없이 응답한 상세 조회(304)의 조회수 반영
+     */
+    public void recordView(Long postId) {
+        viewCountBuffer.increment(postId);
     }
 
     /**
      * 게시글 목록 조회
      */
+    @Transactional(readOnly = true)
     public Page<PostDto.ListResponse> getPosts(Pageable pageable, Long userId) {
-        Page<Post> posts = postRepository.findAll(pageable);
-
-        User currentUser;
-        if (userId != null) {
-            currentUser = userRepository.findById(userId).orElse(null);
-        } else {
-            currentUser = null;
+        if (postFeedCache.isCacheable(pageable)) {
+            // 캐시는 모든 사용자가 공유하므로 복제 지연된 replica 가 아닌 primary 에서 적재
+            Page<PostDto.ListResponse> shared = postFeedCache.get(null, pageable, () -> primaryReader.read(
+                    () -> postFeedAssembler.assembleShared(postRepository.findFeedRows(pageable))));
+            return postFeedAssembler.applyLiked(shared, userId);
         }
 
-        return posts.map(post -> PostDto.ListResponse.from(post, currentUser));
+        Page<PostFeedRow> rows = postRepository.findFeedRows(pageable);
+        return postFeedAssembler.assemble(rows, userId);
     }
 
     /**
      * 카테고리별 게시글 목록 조회
      */
+    @Transactional(readOnly = true)
     public Page<PostDto.ListResponse> getPostsByCategory(Long categoryId, Long currentUserId, Pageable pageable) {
-        BoardCategory boardCategory = boardCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId));
+        if (!categoryExists(categoryId)) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId);
+        }
+
+        if (postFeedCache.isCacheable(pageable)) {
+            Page<PostDto.ListResponse> shared = postFeedCache.get(categoryId, pageable, () -> primaryReader.read(
+                    () -> postFeedAssembler.assembleShared(postRepository.findFeedRowsByCategoryId(categoryId, pageable))));
+            return postFeedAssembler.applyLiked(shared, currentUserId);
+        }
 
         // pageable에 이미 정렬 정보가 포함되어 있으므로, 커스텀 정렬 로직 필요 없음
-        Page<Post> posts = postRepository.findByCategoryId(categoryId, pageable);
+        Page<PostFeedRow> rows = postRepository.findFeedRowsByCategoryId(categoryId, pageable);
+        return postFeedAssembler.assemble(rows, currentUserId);
+    }
 
-        User currentUser;
-        if (currentUserId != null) {
-            currentUser = userRepository.findById(currentUserId).orElse(null);
-        } else {
-            currentUser = null;
+    /**
+     * 게시글 목록 커서 기반 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.ListResponse> scrollPosts(FeedSort sort, String cursor, int size, Long userId) {
+        return scroll(null, sort, cursor, size, userId);
+    }
+
+    /**
+     * 카테고리별 게시글 목록 커서 기반 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.ListResponse> scrollPostsByCategory(Long categoryId, FeedSort sort, String cursor, int size, Long userId) {
+        if (!categoryExists(categoryId)) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId);
+        }
+        return scroll(categoryId, sort, cursor, size, userId);
+    }
+
+    private CursorPage<PostDto.ListResponse> scroll(Long categoryId, FeedSort sort, String cursor, int size, Long userId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor, sort);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostFeedRow> rows = findScrollRows(categoryId, sort, after, PageRequest.of(0, pageSize + 1));
+        return postFeedAssembler.assembleCursorPage(rows, pageSize, sort, userId);
+    }
+
+    private List<PostFeedRow> findScrollRows(Long categoryId, FeedSort sort, FeedCursor after, Pageable limit) {
+        if (categoryId != null) {
+            // 카테고리 게시판은 인덱스 순서로 ID 만 찾은 뒤 ID IN 조회
+            List<Long> postIds = (sort == FeedSort.VIEWS)
+                    ? postRepository.findMostViewedIdsByCategoryId(categoryId,
+                            (after == null) ? Long.MAX_VALUE : after.getViewCount(),
+                            (after == null) ? Long.MAX_VALUE : after.getId(),
+                            limit.getPageSize())
+                    : postRepository.findLatestIdsByCategoryId(categoryId,
+                            (after == null) ? Long.MAX_VALUE : after.getId(),
+                            limit.getPageSize());
+            return findFeedRowsInOrder(postIds);
         }
 
-        return posts.map(post -> PostDto.ListResponse.from(post, currentUser));
+        if (sort == FeedSort.VIEWS) {
+            return (after == null)
+                    ? postRepository.findMostViewedFeedRows(limit)
+                    : postRepository.findMostViewedFeedRowsAfter(after.getViewCount(), after.getId(), limit);
+        }
+        return (after == null)
+                ? postRepository.findLatestFeedRows(limit)
+                : postRepository.findLatestFeedRowsAfter(after.getCreatedAt(), after.getId(), limit);
     }
 
     /**
-     * 사용자별 게시글 목록 조회
+     * 인기 게시글 목록 조회
      */
-    public List<PostDto.ListResponse> getPostsByUser(Long authorId, Long currentUserId) {
-        User author = userRepository.findById(authorId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + authorId));
-        // 현재 사용자 조회
-        User currentUser;
-        if (currentUserId != null) {
-            // 조회하는 사용자와 현재 사용자가 같은 경우 재사용
-            if (authorId.equals(currentUserId)) {
-                currentUser = author;
-            } else {
-                currentUser = userRepository.findById(currentUserId).orElse(null);
-            }
+    @Transactional(readOnly = true)
+    public Page<PostDto.ListResponse> getHotPosts(Pageable pageable, Long userId) {
+        return hot(null, pageable, userId);
+    }
+
+    /**
+     * 카테고리별 인기 게시글 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<PostDto.ListResponse> getHotPostsByCategory(Long categoryId, Pageable pageable, Long userId) {
+        if (!categoryExists(categoryId)) {
+            throw new EntityNotFoundException("카테고리를 찾을 수 없습니다. ID: " + categoryId);
+        }
+        return hot(categoryId, pageable, userId);
+    }
+
+    private Page<PostDto.ListResponse> hot(Long categoryId, Pageable pageable, Long userId) {
+        // 정렬은 랭킹 순서를 따르므로 요청의 sort 는 무시
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SCROLL_SIZE));
+        List<Long> postIds = hotPostRanking.topPostIds(categoryId, (int) page.getOffset(), page.getPageSize());
+        return new PageImpl<>(assembleInOrder(postIds, userId), page, hotPostRanking.boardSize(categoryId));
+    }
+
+    /**
+     * 게시글 내용 검색 (관련도순)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostDto.ListResponse> searchPosts(String query, Pageable pageable, Long userId) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        String keyword = query.trim();
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SCROLL_SIZE));
+        if (!postSearchIndex.canSearch(keyword)) {
+            // 색인 준비 중이거나 한 글자 한글 검색어는 DB 부분 일치 검색 (최신순)
+            Page<Long> postIds = postRepository.findIdsByContentContaining(escapeLike(keyword), page);
+            return new PageImpl<>(assembleInOrder(postIds.getContent(), userId), page, postIds.getTotalElements());
+        }
+
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, (int) page.getOffset(), page.getPageSize());
+        return new PageImpl<>(assembleInOrder(result.getPostIds(), userId), page, result.getTotal());
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 게시글 ID 순서를 유지하여 목록 응답 구성 (ID 목록 IN 조회 1회)
+     */
+    private List<PostDto.ListResponse> assembleInOrder(List<Long> postIds, Long userId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return postFeedAssembler.assemble(findFeedRowsInOrder(postIds), userId);
+    }
+
+    /**
+     * 게시글 ID 순서대로 목록 프로젝션 조회 (ID 목록 IN 조회 1회, 그사이 삭제된 게시글은 제외)
+     */
+    private List<PostFeedRow> findFeedRowsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostFeedRow> rowsById = postRepository.findFeedRowsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostFeedRow::getId, Function.identity()));
+        return postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 사용자별 게시글 목록 커서 기반 조회 (최신순)
+     * (author_id, created_at, id) 인덱스 범위 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.ListResponse> getPostsByUser(Long authorId, String cursor, int size, Long currentUserId) {
+        if (!userRepository.existsById(authorId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + authorId);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PostFeedRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.findLatestFeedRowsByAuthorId(authorId, limit);
         } else {
-            currentUser = null;
+            FeedCursor after = FeedCursor.decode(cursor, FeedSort.LATEST);
+            rows = postRepository.findLatestFeedRowsByAuthorIdAfter(authorId, after.getCreatedAt(), after.getId(), limit);
         }
+        return postFeedAssembler.assembleCursorPage(rows, pageSize, FeedSort.LATEST, currentUserId);
+    }
 
-        List<Post> posts = postRepository.findByAuthorOrderByCreatedAtDesc(author);
-        return posts.stream()
-                .map(post -> PostDto.ListResponse.from(post, currentUser))
-                .collect(Collectors.toList());
+    /**
+     * 프로필 맞춤 게시글 목록 커서 기반 조회 (최신순)
+     * 지역/직무/연령대로 매핑된 카테고리의 게시글을 메모리 후보 저장소에서 병합하여 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PostDto.ListResponse> getPostsForMe(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        Long beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException(e);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Long> postIds = personalizedFeedStore.candidates(userId, beforeId, pageSize + 1);
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageSize) : postIds;
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+        return new CursorPage<>(assembleInOrder(pageIds, userId), nextCursor, hasNext);
+    }
+
+    /**
+     * 카테고리 존재 여부 (existsById 는 COUNT 쿼리라 2차 캐시를 거치지 않으므로 findById 로 확인)
+     */
+    private boolean categoryExists(Long categoryId) {
+        return boardCategoryRepository.findById(categoryId).isPresent();
+    }
+
+    /**
+     * 카테고리 변경분만큼 카테고리 게시글 수 증감 (커밋 후 버퍼에 누적, 주기적으로 반영)
+     */
+    private void adjustCategoryPostCounts(Set<Long> previousCategoryIds, Set<Long> currentCategoryIds) {
+        Set<Long> removed = new HashSet<>(previousCategoryIds);
+        removed.removeAll(currentCategoryIds);
+        Set<Long> added = new HashSet<>(currentCategoryIds);
+        added.removeAll(previousCategoryIds);
+
+        Map<Long, Integer> deltaByCategory = new HashMap<>();
+        removed.forEach(categoryId -> deltaByCategory.put(categoryId, -1));
+        added.forEach(categoryId -> deltaByCategory.put(categoryId, 1));
+        categoryPostCountBuffer.add(deltaByCategory);
     }
 
+    private Set<Long> categoryIds(Set<BoardCategory> categories) {
+        Set<Long> ids = new HashSet<>();
+        if (categories != null) {
+            categories.forEach(category -> ids.add(category.getId()));
+        }
+        return ids;
+    }
 }
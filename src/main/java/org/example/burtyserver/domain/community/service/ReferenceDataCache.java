@@ -0,0 +1,99 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.burtyserver.domain.community.event.BoardCategoryChangedEvent;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.Keyword;
+import org.example.burtyserver.domain.community.model.entity.KeywordType;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리/키워드/키워드 유형 2차 캐시(Hibernate, JCache-Caffeine) 관리
+ * 엔티티를 통한 변경은 Hibernate 가 캐시에 반영하고, SQL 스크립트 등 외부 변경은 여기서 제거
+ */
+@Component
+public class ReferenceDataCache {
+    // 엔티티 @Cache 에 지정한 영역
+    private static final List<String> DOMAIN_REGIONS = List.of(
+            "community.category",
+            "community.keyword",
+            "community.keyword-type",
+            "community.keyword-type.keywords"
+    );
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    private final SessionFactory sessionFactory;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * 카테고리 캐시 제거
+     */
+    public void evictCategories() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(BoardCategory.class);
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * 키워드/키워드 유형 캐시 제거 (키워드 사전 재적재 전 호출)
+     */
+    public void evictKeywords() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Keyword.class);
+        cache.evictEntityData(KeywordType.class);
+        cache.evictCollectionData(KeywordType.class.getName() + ".keywords");
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * 카테고리 생성/수정/삭제 커밋 후 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(BoardCategoryChangedEvent event) {
+        evictCategories();
+    }
+
+    /**
+     * 영역별 적중/실패 통계
+     */
+    public Map<String, Object> statistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : DOMAIN_REGIONS) {
+            regions.put(region, toMap(statistics.getDomainDataRegionStatistics(region)));
+        }
+        regions.put(QUERY_REGION, toMap(statistics.getQueryRegionStatistics(QUERY_REGION)));
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static Map<String, Object> toMap(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (regionStatistics == null) {
+            return result;
+        }
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        result.put("hitCount", hits);
+        result.put("missCount", misses);
+        result.put("putCount", regionStatistics.getPutCount());
+        result.put("hitRatio", (hits + misses == 0) ? 0.0 : (double) hits / (hits + misses));
+        result.put("elementCount", regionStatistics.getElementCountInMemory());
+        return result;
+    }
+}
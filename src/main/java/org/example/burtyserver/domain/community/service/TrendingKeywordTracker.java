@@ -0,0 +1,220 @@
+package org.example.burtyserver.domain.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.KeywordTrendDto;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 키워드 유형별 인기 키워드 집계 (최근 1시간 / 24시간 슬라이딩 윈도우)
+ * 작성 시각 기준 bucket-minutes 단위 버킷에 키워드 출현 게시글 수를 기록하고,
+ * 기간별 합계를 증분으로 유지하여 조회 시 상위 N건만 선택
+ * 키워드 종류는 키워드 사전 크기로 제한되므로 근사(스케치) 없이 정확히 계산
+ */
+@Slf4j
+@Component
+public class TrendingKeywordTracker {
+    private static final int RESTORE_BATCH_SIZE = 1000;
+
+    private final KeywordExtractionService keywordExtractionService;
+    private final PostRepository postRepository;
+    private final long bucketSeconds;
+
+    // 최대 기간(24시간)을 덮는 버킷 링: 버킷 -> (키워드 ID -> 출현 수)
+    private final Map<Long, Integer>[] buckets;
+    // 기간별 합계: 키워드 ID -> 출현 수
+    private final Map<KeywordTrendDto.Window, Map<Long, Integer>> totals = new EnumMap<>(KeywordTrendDto.Window.class);
+    // 키워드 ID -> 마지막으로 본 키워드 정보 (단어, 유형)
+    private final Map<Long, KeywordMatcher.Entry> keywords = new HashMap<>();
+    // 링에 반영된 가장 최근 버킷 번호 (epoch 초 / bucketSeconds)
+    private long currentBucket;
+
+    @SuppressWarnings("unchecked")
+    public TrendingKeywordTracker(
+            KeywordExtractionService keywordExtractionService,
+            PostRepository postRepository,
+            @Value("${app.community.trending.bucket-minutes:5}") long bucketMinutes
+    ) {
+        this.keywordExtractionService = keywordExtractionService;
+        this.postRepository = postRepository;
+        this.bucketSeconds = Duration.ofMinutes(bucketMinutes).toSeconds();
+        this.buckets = new Map[bucketCount(KeywordTrendDto.Window.DAY)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new HashMap<>();
+        }
+        for (KeywordTrendDto.Window window : KeywordTrendDto.Window.values()) {
+            totals.put(window, new HashMap<>());
+        }
+        this.currentBucket = bucketOf(LocalDateTime.now());
+    }
+
+    /**
+     * 기간 내 키워드 유형별 인기 키워드 조회
+     *
+     * @param keywordType 키워드 유형명 (지역, 연령대, 직무), null 이면 전체 유형
+     * @return 유형명 -> 출현 수 내림차순 상위 limit 건
+     */
+    public synchronized Map<String, List<KeywordTrendDto.Response>> trending(KeywordTrendDto.Window window, String keywordType, int limit) {
+        advanceTo(bucketOf(LocalDateTime.now()));
+
+        Comparator<Map.Entry<Long, Integer>> order = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        Map<String, PriorityQueue<Map.Entry<Long, Integer>>> topByType = new HashMap<>();
+        for (Map.Entry<Long, Integer> count : totals.get(window).entrySet()) {
+            String type = typeOf(count.getKey());
+            if (keywordType != null && !keywordType.equals(type)) {
+                continue;
+            }
+            // 유형별 크기 limit 의 최소 힙으로 상위 N건 선택
+            PriorityQueue<Map.Entry<Long, Integer>> top = topByType.computeIfAbsent(type, key -> new PriorityQueue<>(order));
+            top.add(count);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        Map<String, List<KeywordTrendDto.Response>> result = new HashMap<>();
+        topByType.forEach((type, top) -> {
+            List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(top);
+            sorted.sort(order.reversed());
+            result.put(type, sorted.stream()
+                    .map(count -> toResponse(count.getKey(), count.getValue()))
+                    .toList());
+        });
+        return result;
+    }
+
+    /**
+     * 게시글 작성 커밋 후 본문 키워드 기록
+     * 수정은 이미 기록된 작성 시점의 키워드를 다시 세지 않도록 제외
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.CREATED) {
+            record(event.getContent(), LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 최근 24시간 게시글로 집계 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDateTime since = LocalDateTime.now().minus(KeywordTrendDto.Window.DAY.getLength());
+        long lastId = 0L;
+        int restored = 0;
+        List<PostRepository.PostContentTimeView> batch;
+        do {
+            batch = postRepository.findContentsCreatedSince(since, lastId, PageRequest.of(0, RESTORE_BATCH_SIZE));
+            for (PostRepository.PostContentTimeView row : batch) {
+                lastId = row.getId();
+                record(row.getContent(), row.getCreatedAt());
+                restored++;
+            }
+        } while (batch.size() == RESTORE_BATCH_SIZE);
+        log.info("인기 키워드 집계 복원 완료 - 게시글 {}건", restored);
+    }
+
+    private void record(String content, LocalDateTime createdAt) {
+        // 키워드 매칭은 잠금 밖에서 수행
+        List<KeywordMatcher.Entry> matched = keywordExtractionService.findKeywords(content);
+        if (matched.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            long bucket = bucketOf(createdAt);
+            advanceTo(bucket);
+            long age = currentBucket - bucket;
+            if (age >= buckets.length) {
+                return;
+            }
+            for (KeywordMatcher.Entry entry : matched) {
+                keywords.put(entry.getKeywordId(), entry);
+                buckets[slot(bucket)].merge(entry.getKeywordId(), 1, Integer::sum);
+                for (KeywordTrendDto.Window window : KeywordTrendDto.Window.values()) {
+                    if (age < bucketCount(window)) {
+                        totals.get(window).merge(entry.getKeywordId(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 버킷을 target 까지 전진시키며 기간을 벗어난 버킷을 합계에서 제외
+     */
+    private void advanceTo(long target) {
+        if (target <= currentBucket) {
+            return;
+        }
+        if (target - currentBucket >= buckets.length) {
+            for (Map<Long, Integer> bucket : buckets) {
+                bucket.clear();
+            }
+            totals.values().forEach(Map::clear);
+            keywords.clear();
+            currentBucket = target;
+            return;
+        }
+        while (currentBucket < target) {
+            currentBucket++;
+            for (KeywordTrendDto.Window window : KeywordTrendDto.Window.values()) {
+                // 새 버킷 기준으로 기간 밖으로 밀려난 버킷
+                long expired = currentBucket - bucketCount(window);
+                subtract(totals.get(window), buckets[slot(expired)]);
+            }
+            // 최대 기간 밖으로 밀려난 버킷 자리를 새 버킷으로 재사용
+            buckets[slot(currentBucket)].clear();
+        }
+        keywords.keySet().retainAll(totals.get(KeywordTrendDto.Window.DAY).keySet());
+    }
+
+    private static void subtract(Map<Long, Integer> total, Map<Long, Integer> bucket) {
+        bucket.forEach((keywordId, count) -> total.computeIfPresent(keywordId,
+                (id, current) -> (current - count > 0) ? current - count : null));
+    }
+
+    private String typeOf(Long keywordId) {
+        KeywordMatcher.Entry entry = keywords.get(keywordId);
+        return (entry == null || entry.getKeywordTypeName() == null) ? "기타" : entry.getKeywordTypeName();
+    }
+
+    private KeywordTrendDto.Response toResponse(Long keywordId, int count) {
+        KeywordMatcher.Entry entry = keywords.get(keywordId);
+        return KeywordTrendDto.Response.builder()
+                .keywordId(keywordId)
+                .word(entry != null ? entry.getWord() : null)
+                .keywordType(typeOf(keywordId))
+                .count(count)
+                .build();
+    }
+
+    private int bucketCount(KeywordTrendDto.Window window) {
+        return (int) (window.getLength().toSeconds() / bucketSeconds);
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+
+    private long bucketOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() / bucketSeconds;
+    }
+}
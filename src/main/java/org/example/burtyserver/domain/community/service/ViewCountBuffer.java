@@ -0,0 +1,114 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.community.event.PostViewsFlushedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * 조회 시에는 메모리의 LongAdder 만 증가시키고, 주기적으로 모아서 배치 UPDATE 로 반영
+ * 조회수는 최종적으로만 일관됨 (장애 시 마지막 주기분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private static final String FLUSH_SQL = "UPDATE community_posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 조회수 1 증가 (DB 반영은 다음 flush 시점)
+     */
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder == null) ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE 로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.community.view-count-flush-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 버퍼에서 제거
+                // 제거 직전에 이 LongAdder 를 잡은 증가분은 제거 후 다시 옮겨 담음
+                LongAdder idle = entry.getValue();
+                if (pending.remove(entry.getKey(), idle)) {
+                    long late = idle.sumThenReset();
+                    if (late > 0) {
+                        add(entry.getKey(), late);
+                    }
+                }
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 다음 주기에 다시 시도
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+            log.error("조회수 반영 실패 - 게시글 {}건, 다음 주기에 재시도", batch.size(), e);
+            return;
+        }
+
+        Map<Long, Long> viewDeltas = new HashMap<>();
+        for (Object[] row : batch) {
+            viewDeltas.put((Long) row[1], (Long) row[0]);
+        }
+        eventPublisher.publishEvent(new PostViewsFlushedEvent(viewDeltas));
+    }
+
+    /**
+     * 키 잠금 없이 LongAdder 로 증가 (같은 게시글의 동시 조회도 직렬화되지 않음)
+     */
+    private void add(Long postId, long delta) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
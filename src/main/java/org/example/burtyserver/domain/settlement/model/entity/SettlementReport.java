@@ -39,8 +39,11 @@ public class SettlementReport {
     private Integer monthlyFixedCost;
 
     private String recommendedArea;
+    // 상세 조회 외에는 필요 없으므로 실제 접근 시 함께 조회 (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 2000)
     private String recommendationReason;
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 1000)
     private String savingPotential;
 
@@ -15,6 +15,7 @@ import org.example.burtyserver.domain.settlement.model.entity.SettlementReport;
 import org.example.burtyserver.domain.settlement.model.repository.SettlementReportRepository;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -31,6 +32,7 @@ public class SettlementService {
     private final GeminiAPIService geminiAPIService;
     private final SettlementReportRepository settlementReportRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final ObjectMapper objectMapper;
 
     /**
@@ -43,8 +45,10 @@ public class SettlementService {
      */
     @Transactional
     public SettlementRecommendationResponse recommendSettlement(Long userId, SettlementRecommendationRequest request) throws IOException{
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID : " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다. ID : " + userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         // Gemini API 호출
         String apiResponse = geminiAPIService.getSettlementRecommendation(
@@ -151,8 +155,10 @@ public class SettlementService {
      * @return 정착 리포트 응답 DTO 목록
      */
     public List<SettlementListResponse> getUserReports(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         List<SettlementReport> reports = settlementReportRepository.findByUserOrderByCreatedAtDesc(user);
         List<SettlementListResponse> responses = new ArrayList<>();
@@ -171,8 +177,10 @@ public class SettlementService {
      * @return 정착 리포트 응답 DTO
      */
     public SettlementRecommendationResponse getReportById(Long userId, Long reportId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자ㅏ를 찾을 수 없습니다. ID: " +userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new RuntimeException("사용자ㅏ를 찾을 수 없습니다. ID: " +userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         SettlementReport report = settlementReportRepository.findByUserAndId(user, reportId)
                 .orElseThrow(() -> new RuntimeException("리포트를 찾을 수 없습니다. ID : "+ reportId));
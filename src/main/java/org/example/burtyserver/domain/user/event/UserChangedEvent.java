@@ -0,0 +1,13 @@
+package org.example.burtyserver.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보 변경 이벤트 (프로필 수정, 탈퇴, 소셜 로그인 정보 갱신)
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,43 @@
+package org.example.burtyserver.domain.user.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.burtyserver.domain.user.model.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * 요청 간 캐시되는 사용자 정보 스냅샷 (불변)
+ * 인증 필터와 서비스의 사용자 확인용이며 비밀번호와 연관 엔티티는 포함하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class UserSnapshot {
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final String region;
+    private final LocalDate birthDate;
+    private final String job;
+    private final boolean active;
+    private final User.Role role;
+    private final User.AuthProvider provider;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getRegion(),
+                user.getBirthDate(),
+                user.getJob(),
+                user.isActive(),
+                user.getRole(),
+                user.getProvider()
+        );
+    }
+}
@@ -6,10 +6,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.burtyserver.domain.auth.service.AuthService;
+import org.example.burtyserver.domain.user.event.UserChangedEvent;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.repository.UserRepository;
 import org.example.burtyserver.global.security.UserPrincipal;
 import org.springdoc.api.OpenApiResourceNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 public class UserService {
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public User updateUserProfile(Long userId, String nickname, String region, LocalDate birthDate, String job){
@@ -26,7 +29,9 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
 
         user.updateProfile(nickname, region, birthDate, job);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        return savedUser;
     }
 
     @Transactional
@@ -41,6 +46,7 @@ public class UserService {
         System.out.println("탈퇴 후: " + user.getName() + ", " + user.getProfileImageUrl());
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
         authService.logout(UserPrincipal.create(user), request, response);
     }
@@ -0,0 +1,63 @@
+package org.example.burtyserver.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.burtyserver.domain.user.event.UserChangedEvent;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
+import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 스냅샷 캐시
+ * 인증 필터와 서비스에서 요청마다 반복되던 users 기본키 조회를 줄임
+ * 사용자 정보 변경 커밋 후 제거하며, 다른 인스턴스의 변경은 TTL 로 반영
+ */
+@Component
+public class UserSnapshotCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> cache;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            @Value("${app.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (없으면 DB 조회 후 저장, 존재하지 않는 사용자는 저장하지 않음)
+     */
+    public Optional<UserSnapshot> find(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(userId,
+                id -> userRepository.findById(id).map(UserSnapshot::from).orElse(null)));
+    }
+
+    /**
+     * 활성 사용자 여부
+     */
+    public boolean isActive(Long userId) {
+        return find(userId).map(UserSnapshot::isActive).orElse(false);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+}
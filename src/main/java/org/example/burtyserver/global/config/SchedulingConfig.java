@@ -0,0 +1,13 @@
+package org.example.burtyserver.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 카운터 보정 등 주기적으로 실행되는 작업을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
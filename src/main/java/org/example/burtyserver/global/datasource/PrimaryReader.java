@@ -0,0 +1,34 @@
+package org.example.burtyserver.global.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * primary 읽기 전용 트랜잭션 실행
+ * 여러 요청이 공유하는 캐시 적재나 방금 쓴 데이터 재조회처럼 복제 지연된 replica 를 읽으면 안 되는 경우에 사용
+ * 새 읽기 전용 트랜잭션으로 실행하며, ReplicationRoutingDataSource 가 트랜잭션 이름으로 primary 를 선택
+ */
+@Component
+public class PrimaryReader {
+    public static final String TRANSACTION_NAME = "primary-read";
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setName(TRANSACTION_NAME);
+    }
+
+    /**
+     * primary 에서 읽은 결과 반환 (replica 를 사용하지 않는 환경에서는 일반 읽기 전용 트랜잭션)
+     */
+    public <T> T read(Supplier<T> reader) {
+        return transactionTemplate.execute(status -> reader.get());
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.burtyserver.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 복제 지연 보호
+ * 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기도 primary 로 보내 자신이 쓴 내용을 바로 볼 수 있게 함
+ */
+public class ReplicationLagGuard {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicationLagGuard(Duration window, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 사용자의 쓰기 커밋 기록 (기간 갱신)
+     */
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * 최근 쓰기가 있어 primary 에서 읽어야 하는지 여부
+     */
+    public boolean mustReadPrimary(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.burtyserver.global.datasource;
+
+import org.example.burtyserver.global.security.UserPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * primary/replica 라우팅 DataSource
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기, 트랜잭션 없음)와 최근 쓰기한 사용자의 읽기, PrimaryReader 의 읽기는 primary 로 보냄
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicationLagGuard lagGuard;
+
+    public ReplicationRoutingDataSource(ReplicationLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit(userId);
+            return Target.PRIMARY;
+        }
+        if (PrimaryReader.TRANSACTION_NAME.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return Target.PRIMARY;
+        }
+        if (userId != null && lagGuard.mustReadPrimary(userId)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    private void recordWriteAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lagGuard.recordWrite(userId);
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        return null;
+    }
+}
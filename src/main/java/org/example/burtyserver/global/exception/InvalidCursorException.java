@@ -0,0 +1,28 @@
+package org.example.burtyserver.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 잘못되었거나 변조된 페이지 커서 예외
+ * 클라이언트가 보낸 값의 오류이므로 400 Bad Request 로 응답
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "유효하지 않은 커서입니다.")
+public class InvalidCursorException extends IllegalArgumentException {
+
+    /**
+     * 원인 예외 없이 생성
+     */
+    public InvalidCursorException() {
+        super("유효하지 않은 커서입니다.");
+    }
+
+    /**
+     * 원인 예외를 포함하는 생성자
+     *
+     * @param t 원인 예외
+     */
+    public InvalidCursorException(Throwable t) {
+        super("유효하지 않은 커서입니다.", t);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.burtyserver.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 지원하지 않는 목록 정렬 방식 예외
+ * 클라이언트가 보낸 값의 오류이므로 400 Bad Request 로 응답
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "지원하지 않는 정렬 방식입니다.")
+public class InvalidSortException extends IllegalArgumentException {
+
+    /**
+     * 요청한 정렬 값을 메시지에 포함하는 생성자
+     *
+     * @param value 요청한 정렬 값
+     */
+    public InvalidSortException(String value) {
+        super("지원하지 않는 정렬 방식입니다: " + value);
+    }
+}
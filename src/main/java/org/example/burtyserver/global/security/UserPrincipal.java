@@ -2,6 +2,7 @@ package org.example.burtyserver.global.security;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -43,6 +44,23 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         );
     }
 
+    /**
+     * 사용자 스냅샷으로부터 UserPrincipal 생성 (JWT 인증용, 비밀번호 미포함)
+     */
+    public static UserPrincipal create(UserSnapshot user) {
+        List<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority(user.getRole().name())
+        );
+
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                null,
+                authorities,
+                null
+        );
+    }
+
     /**
      * User 엔티티와 OAuth2 속성으로부터 UserPrincipal 생성 (OAuth2 로그인용)
      */
@@ -6,12 +6,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.burtyserver.domain.user.model.entity.User;
-import org.example.burtyserver.domain.user.model.repository.UserRepository;
-import org.example.burtyserver.global.security.oauth2.CustomUserDetailsService;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
+import org.example.burtyserver.global.security.UserPrincipal;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -30,8 +29,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 필터 내부 로직 구현
@@ -45,15 +43,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)){
                 Long userId = tokenProvider.getUserIdFromToken(jwt);
 
-                //사용자가 탈퇴했는지 확인
-                User user = userRepository.findById(userId).orElse(null);
+                //사용자가 탈퇴했는지 확인 (사용자 스냅샷 캐시 1회 조회로 탈퇴 여부와 인증 정보를 함께 처리)
+                UserSnapshot user = userSnapshotCache.find(userId).orElse(null);
                 if (user == null || !user.isActive()) {
                     // 탈퇴한 사용자는 인증처리 하지 않음
                     SecurityContextHolder.clearContext();
                 } else {
-                    UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+                    UserPrincipal userPrincipal = UserPrincipal.create(user);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
+                            userPrincipal, null, userPrincipal.getAuthorities()
                     );
 
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
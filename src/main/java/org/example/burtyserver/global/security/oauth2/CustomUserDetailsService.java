@@ -1,8 +1,10 @@
 package org.example.burtyserver.global.security.oauth2;
 
 import lombok.RequiredArgsConstructor;
+import org.example.burtyserver.domain.user.model.dto.UserSnapshot;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.repository.UserRepository;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
 import org.example.burtyserver.global.security.UserPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 사용자명(이메일)으로 사용자 정보 로드
@@ -37,15 +40,14 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 사용자 ID로 사용자 정보 로드
-     * JWT 토큰에서 추출한 ID로 사용자 정보를 조회할 때 사용
+     * JWT 토큰에서 추출한 ID로 사용자 정보를 조회할 때 사용 (사용자 스냅샷 캐시 경유)
      *
      * @param id 사용자 ID
      * @return UserDetails 객체
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = true)
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id).orElseThrow(() -> new UsernameNotFoundException("User not found with id : " + id));
+        UserSnapshot user = userSnapshotCache.find(id).orElseThrow(() -> new UsernameNotFoundException("User not found with id : " + id));
 
         return UserPrincipal.create(user);
     }
@@ -2,6 +2,7 @@ package org.example.burtyserver.global.security.oauth2;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.burtyserver.domain.user.event.UserChangedEvent;
 import org.example.burtyserver.domain.user.model.entity.User;
 import org.example.burtyserver.domain.user.model.entity.UserAuthority;
 import org.example.burtyserver.domain.user.model.repository.UserAuthorityRepository;
@@ -9,6 +10,7 @@ import org.example.burtyserver.domain.user.model.repository.UserRepository;
 import org.example.burtyserver.global.security.UserPrincipal;
 import org.example.burtyserver.global.security.dto.OAuth2UserInfo;
 import org.example.burtyserver.global.security.dto.OAuth2UserInfoFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -25,6 +27,7 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserAuthorityRepository userAuthorityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         log.debug("OAuth2 사용자 정보 요청 시작: {}", userRequest.getClientRegistration().getRegistrationId());
@@ -81,6 +84,7 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
                     oAuth2UserInfo.getImageUrl()
             );
             user = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         } else {
             // 새 사용자 생성
             user = createUser(oAuth2UserInfo, provider, email);
@@ -0,0 +1,79 @@
+package org.example.burtyserver.domain.community.model.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 엔티티 로딩 시 본문(TEXT)이 실제 접근 전까지 조회되지 않는지 검증 (바이트코드 향상 필요)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostLazyContentTest {
+
+    private static final String CONTENT = "긴 본문 ".repeat(500);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Long authorId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.builder()
+                .email("author@example.com")
+                .name("author")
+                .role(User.Role.ROLE_USER)
+                .provider(User.AuthProvider.LOCAL)
+                .active(true)
+                .build();
+        entityManager.persist(author);
+
+        Post post = Post.builder()
+                .content(CONTENT)
+                .author(author)
+                .build();
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+
+        authorId = author.getId();
+        postId = post.getId();
+    }
+
+    @Test
+    void ownershipCheckDoesNotLoadContent() {
+        Post post = postRepository.findById(postId).orElseThrow();
+
+        assertThat(post.getAuthor().getId()).isEqualTo(authorId);
+        assertThat(post.getPreview()).hasSize(Post.PREVIEW_LENGTH);
+        assertThat(Hibernate.isPropertyInitialized(post, "content")).isFalse();
+    }
+
+    @Test
+    void contentIsLoadedOnFirstAccess() {
+        Post post = postRepository.findById(postId).orElseThrow();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(post.getContent()).isEqualTo(CONTENT);
+        assertThat(Hibernate.isPropertyInitialized(post, "content")).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.CategoryPostCount;
+import org.example.burtyserver.domain.community.model.entity.Comment;
+import org.example.burtyserver.domain.community.model.entity.CommentLike;
+import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.entity.PostLike;
+import org.example.burtyserver.domain.community.model.repository.CategoryPostCountRepository;
+import org.example.burtyserver.domain.community.model.repository.CommentRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 어긋난 좋아요/댓글/카테고리 게시글 수 카운터가 보정 작업 후 실제 집계와 같아지는지 검증
+ */
+@DataJpaTest
+@Import({CounterReconciliationService.class, CategoryPostCountBuffer.class})
+class CounterReconciliationServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CategoryPostCountRepository categoryPostCountRepository;
+
+    @Autowired
+    private CounterReconciliationService counterReconciliationService;
+
+    private Long likedPostId;
+    private Long inflatedPostId;
+    private Long commentId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        User author = persistUser("author@example.com");
+        User reader = persistUser("reader@example.com");
+
+        BoardCategory category = BoardCategory.builder().name("강아지").build();
+        entityManager.persist(category);
+
+        // 엔티티로 직접 저장하여 카운터(0 또는 행 없음)와 실제 댓글/좋아요/게시글 수가 어긋난 상태
+        Post likedPost = persistPost(author, "좋아요와 댓글이 있는 게시글");
+        likedPost.setCategories(Set.of(category));
+        Comment first = persistComment(likedPost, reader, "첫 댓글");
+        persistComment(likedPost, author, "두 번째 댓글");
+        entityManager.persist(PostLike.builder().post(likedPost).user(reader).build());
+        entityManager.persist(PostLike.builder().post(likedPost).user(author).build());
+        entityManager.persist(CommentLike.builder().comment(first).user(author).build());
+
+        Post inflatedPost = persistPost(author, "카운터만 부풀려진 게시글");
+
+        // 삭제 처리되어 PostPurger 의 정리를 기다리는 게시글 (카테고리 연결 행은 아직 남아 있음)
+        Post deletedPost = persistPost(author, "삭제 대기 중인 게시글");
+        deletedPost.setCategories(Set.of(category));
+        entityManager.flush();
+        postRepository.markDeleted(deletedPost.getId());
+
+        postRepository.addLikeCount(inflatedPost.getId(), 3);
+        postRepository.addCommentCount(inflatedPost.getId(), 2);
+        entityManager.clear();
+
+        likedPostId = likedPost.getId();
+        inflatedPostId = inflatedPost.getId();
+        commentId = first.getId();
+        categoryId = category.getId();
+    }
+
+    @Test
+    void reconcileRestoresTrueCounts() {
+        assertThat(postRepository.findLikeCountById(likedPostId)).contains(0);
+        assertThat(postRepository.findLikeCountById(inflatedPostId)).contains(3);
+
+        counterReconciliationService.reconcileAll();
+        entityManager.clear();
+
+        Post likedPost = postRepository.findById(likedPostId).orElseThrow();
+        assertThat(likedPost.getLikeCount()).isEqualTo(2);
+        assertThat(likedPost.getCommentCount()).isEqualTo(2);
+
+        Post inflatedPost = postRepository.findById(inflatedPostId).orElseThrow();
+        assertThat(inflatedPost.getLikeCount()).isZero();
+        assertThat(inflatedPost.getCommentCount()).isZero();
+
+        assertThat(commentRepository.findLikeCountById(commentId)).contains(1);
+        assertThat(categoryPostCountRepository.findById(categoryId))
+                .map(CategoryPostCount::getPostCount)
+                .contains(1);
+    }
+
+    @Test
+    void reconcileLeavesCorrectCountersUntouched() {
+        counterReconciliationService.reconcileAll();
+        entityManager.clear();
+
+        assertThat(postRepository.reconcileCounters(1L, postRepository.findMaxId())).isZero();
+        assertThat(commentRepository.reconcileLikeCounts(1L, commentRepository.findMaxId())).isZero();
+        assertThat(categoryPostCountRepository.reconcilePostCounts()).isZero();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .name(email)
+                .role(User.Role.ROLE_USER)
+                .provider(User.AuthProvider.LOCAL)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Post persistPost(User author, String content) {
+        Post post = Post.builder()
+                .content(content)
+                .author(author)
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private Comment persistComment(Post post, User author, String content) {
+        Comment comment = Comment.builder()
+                .content(content)
+                .author(author)
+                .post(post)
+                .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.burtyserver.domain.community.model.dto.CommentDto;
+import org.example.burtyserver.domain.community.model.dto.LikeDto;
+import org.example.burtyserver.domain.community.model.entity.Comment;
+import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.repository.CommentRepository;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.example.burtyserver.domain.user.service.UserSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 작성/삭제, 좋아요/취소 시 비정규화 카운터가 1씩 증감하는지 검증
+ * 좋아요 INSERT 구문이 MySQL 전용이므로 H2 MySQL 호환 모드 사용
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:counters;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommentService.class, PostLikeService.class, CommentLikeService.class,
+        LikeStatusResolver.class, PostFeedAssembler.class, UserSnapshotCache.class})
+class InteractionCounterTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+
+    private Long authorId;
+    private Long readerId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = persistUser("author@example.com");
+        User reader = persistUser("reader@example.com");
+        Post post = Post.builder()
+                .content("카운터 검증용 게시글")
+                .author(author)
+                .build();
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.clear();
+
+        authorId = author.getId();
+        readerId = reader.getId();
+        postId = post.getId();
+    }
+
+    @Test
+    void commentCountFollowsCreateAndDelete() throws Exception {
+        Comment first = commentService.createComment(readerId, postId, new CommentDto.Request("첫 댓글"));
+        commentService.createComment(authorId, postId, new CommentDto.Request("두 번째 댓글"));
+        assertThat(commentCount()).isEqualTo(2);
+
+        commentService.deleteComment(readerId, first.getId());
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void postLikeCountFollowsLikeAndUnlike() {
+        assertThat(postLikeService.applyLike(readerId, postId, true)).isEqualTo(LikeDto.Result.CHANGED);
+        assertThat(postLikeService.applyLike(authorId, postId, true)).isEqualTo(LikeDto.Result.CHANGED);
+        assertThat(postRepository.findLikeCountById(postId)).contains(2);
+
+        // 같은 상태 재요청은 카운터를 바꾸지 않음
+        assertThat(postLikeService.applyLike(readerId, postId, true)).isEqualTo(LikeDto.Result.UNCHANGED);
+        assertThat(postRepository.findLikeCountById(postId)).contains(2);
+
+        assertThat(postLikeService.applyLike(readerId, postId, false)).isEqualTo(LikeDto.Result.CHANGED);
+        assertThat(postLikeService.applyLike(readerId, postId, false)).isEqualTo(LikeDto.Result.UNCHANGED);
+        assertThat(postRepository.findLikeCountById(postId)).contains(1);
+    }
+
+    @Test
+    void commentLikeCountFollowsLikeAndUnlike() {
+        Long commentId = commentService.createComment(authorId, postId, new CommentDto.Request("댓글")).getId();
+
+        assertThat(commentLikeService.applyLike(readerId, commentId, true)).isEqualTo(LikeDto.Result.CHANGED);
+        assertThat(commentRepository.findLikeCountById(commentId)).contains(1);
+
+        assertThat(commentLikeService.applyLike(readerId, commentId, false)).isEqualTo(LikeDto.Result.CHANGED);
+        assertThat(commentRepository.findLikeCountById(commentId)).contains(0);
+    }
+
+    private int commentCount() {
+        entityManager.flush();
+        entityManager.clear();
+        return postRepository.findById(postId).orElseThrow().getCommentCount();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .name(email)
+                .role(User.Role.ROLE_USER)
+                .provider(User.AuthProvider.LOCAL)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
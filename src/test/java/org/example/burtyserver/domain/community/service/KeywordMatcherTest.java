@@ -0,0 +1,90 @@
+package org.example.burtyserver.domain.community.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aho-Corasick 키워드 매처의 매칭 결과 검증
+ */
+class KeywordMatcherTest {
+
+    @Test
+    void findsOverlappingKeywords() {
+        KeywordMatcher matcher = matcherOf("he", "she", "his", "hers");
+
+        assertThat(words(matcher.match("ushers"))).containsExactlyInAnyOrder("he", "she", "hers");
+    }
+
+    @Test
+    void reportsKeywordsThatAreSuffixesOfOtherKeywords() {
+        // "서울" 은 "강서울" 노드의 실패 링크로만 도달하는 출력
+        KeywordMatcher matcher = matcherOf("강서울", "서울", "울");
+
+        assertThat(words(matcher.match("강서울 거주"))).containsExactlyInAnyOrder("강서울", "서울", "울");
+        assertThat(words(matcher.match("서울 거주"))).containsExactlyInAnyOrder("서울", "울");
+    }
+
+    @Test
+    void continuesAfterPartialMatchFailure() {
+        KeywordMatcher matcher = matcherOf("abcd", "bce");
+
+        assertThat(words(matcher.match("abce"))).containsExactly("bce");
+    }
+
+    @Test
+    void ignoresCase() {
+        KeywordMatcher matcher = matcherOf("IT개발", "java");
+
+        assertThat(words(matcher.match("it개발자로 JAVA 사용"))).containsExactlyInAnyOrder("IT개발", "java");
+    }
+
+    @Test
+    void skipsBlankKeywords() {
+        KeywordMatcher matcher = matcherOf("", "  ", "부산");
+
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(words(matcher.match("부산 사는 사람"))).containsExactly("부산");
+        assertThat(matcher.match("   ")).isEmpty();
+    }
+
+    @Test
+    void keywordAppearingSeveralTimesIsReturnedOnce() {
+        KeywordMatcher matcher = matcherOf("서울", "20대");
+
+        assertThat(words(matcher.match("서울 20대 서울 서울 20대"))).containsExactlyInAnyOrder("서울", "20대");
+    }
+
+    @Test
+    void sameWordRegisteredTwiceReturnsEachEntryOnce() {
+        List<KeywordMatcher.Entry> entries = List.of(
+                new KeywordMatcher.Entry(1L, "개발", "직무", 10L),
+                new KeywordMatcher.Entry(2L, "개발", "직무", 20L));
+        KeywordMatcher matcher = KeywordMatcher.build(entries);
+
+        List<KeywordMatcher.Entry> matched = matcher.match("개발 개발 개발");
+        assertThat(matched).extracting(KeywordMatcher.Entry::getKeywordId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void emptyInputsMatchNothing() {
+        assertThat(matcherOf("서울").match(null)).isEmpty();
+        assertThat(matcherOf("서울").match("")).isEmpty();
+        assertThat(matcherOf().match("서울")).isEmpty();
+    }
+
+    private static KeywordMatcher matcherOf(String... words) {
+        List<KeywordMatcher.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            entries.add(new KeywordMatcher.Entry((long) i, words[i], "직무", (long) i));
+        }
+        return KeywordMatcher.build(entries);
+    }
+
+    private static List<String> words(List<KeywordMatcher.Entry> matched) {
+        return matched.stream().map(KeywordMatcher.Entry::getWord).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.burtyserver.domain.community.service;
+
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 전송 대기열이 넘친 구독자에게 RESYNC 를 보낸 뒤 연결을 종료하는지 검증
+ * 전송 스레드를 막아 둔 상태에서 알림을 쌓아 대기열 초과를 재현
+ */
+class LiveStreamHubTest {
+    private static final int QUEUE_CAPACITY = 2;
+
+    private final CountDownLatch senderBlocked = new CountDownLatch(1);
+    private ExecutorService sender;
+    private LiveStreamHub liveStreamHub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        sender = Executors.newSingleThreadExecutor();
+        // 하나뿐인 전송 스레드를 점유해 구독자의 전송 작업이 대기하도록 함
+        sender.execute(() -> {
+            try {
+                senderBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        liveStreamHub = new LiveStreamHub(QUEUE_CAPACITY, 10, 60_000L, 10_000L, sender);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(liveStreamHub)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        senderBlocked.countDown();
+        liveStreamHub.shutdown();
+    }
+
+    @Test
+    void overflowingSubscriberGetsResyncAndIsClosed() throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(liveStreamHub.subscriberCount()).isEqualTo(1);
+
+        // 대기열(2건)을 넘기는 세 번째 알림에서 구독 해제
+        for (long postId = 1; postId <= QUEUE_CAPACITY + 1; postId++) {
+            liveStreamHub.onPostChanged(new PostChangedEvent(
+                    PostChangedEvent.Type.CREATED, postId, Set.of(), Set.of(), "새 게시글"));
+        }
+        assertThat(liveStreamHub.subscriberCount()).isZero();
+
+        // 전송 스레드가 풀리면 RESYNC 전송 후 연결 종료
+        senderBlocked.countDown();
+        result.getAsyncResult(5_000L);
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:RESYNC");
+        assertThat(body).contains("\"dropped\":" + (QUEUE_CAPACITY + 1));
+        assertThat(body).doesNotContain("POST_CREATED");
+    }
+
+    @Test
+    void subscriberWithinCapacityReceivesEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        for (long postId = 1; postId <= QUEUE_CAPACITY; postId++) {
+            liveStreamHub.onPostChanged(new PostChangedEvent(
+                    PostChangedEvent.Type.CREATED, postId, Set.of(), Set.of(), "새 게시글"));
+        }
+        senderBlocked.countDown();
+
+        // 전송 완료 대기 (단일 전송 스레드에 빈 작업을 넣고 끝나기를 기다림)
+        sender.submit(() -> { }).get();
+
+        assertThat(liveStreamHub.subscriberCount()).isEqualTo(1);
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:POST_CREATED");
+        assertThat(body).doesNotContain("RESYNC");
+    }
+
+    @RestController
+    public static class StreamController {
+        private final LiveStreamHub liveStreamHub;
+
+        StreamController(LiveStreamHub liveStreamHub) {
+            this.liveStreamHub = liveStreamHub;
+        }
+
+        @GetMapping("/stream")
+        public SseEmitter stream() {
+            return liveStreamHub.subscribePosts().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.burtyserver.domain.community.event.PostCategorizationRequestedEvent;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비동기 분류 작업자가 미분류(버전 0 + 카테고리 없음) 게시글만 재처리하고, 그사이 수정된 게시글은 건너뛰는지 검증
+ * 작업자는 별도 스레드에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증
+ * 카테고리 연결 INSERT 구문이 MySQL 전용이므로 H2 MySQL 호환 모드 사용
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:categorizer;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CategoryPostCountBuffer.class)
+class PostCategorizerTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryPostCountBuffer categoryPostCountBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private KeywordExtractionService keywordExtractionService;
+    private ApplicationEventPublisher eventPublisher;
+    private PostCategorizer postCategorizer;
+    private User author;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        keywordExtractionService = mock(KeywordExtractionService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder()
+                    .email("author@example.com")
+                    .name("author")
+                    .role(User.Role.ROLE_USER)
+                    .provider(User.AuthProvider.LOCAL)
+                    .active(true)
+                    .build();
+            entityManager.persist(author);
+            BoardCategory category = BoardCategory.builder().name("강아지").build();
+            entityManager.persist(category);
+            categoryId = category.getId();
+        });
+        when(keywordExtractionService.extractCategoryIds(anyString())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).contains("강아지") ? Set.of(categoryId) : Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (postCategorizer != null) {
+            postCategorizer.shutdown();
+        }
+        jdbcTemplate.update("DELETE FROM post_categories");
+        jdbcTemplate.update("DELETE FROM community_posts");
+        jdbcTemplate.update("DELETE FROM community_category_post_counts");
+        jdbcTemplate.update("DELETE FROM community_categories");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void recoveryCategorizesOnlyRecentUncategorizedPosts() {
+        // 재처리 대상이 아닌 게시글을 먼저 저장해 ID 순 재처리 중 지나가도록 함
+        Long edited = persistPost("이미 수정된 강아지 글");
+        jdbcTemplate.update("UPDATE community_posts SET version = 1 WHERE id = ?", edited);
+        Long old = persistPost("오래된 강아지 글");
+        jdbcTemplate.update("UPDATE community_posts SET created_at = ? WHERE id = ?", LocalDateTime.now().minusHours(48), old);
+        Long deleted = persistPost("삭제 대기 중인 강아지 글");
+        jdbcTemplate.update("UPDATE community_posts SET deleted = true WHERE id = ?", deleted);
+
+        // batch-size(2)보다 많아 여러 페이지로 나누어 재처리
+        List<Long> pending = List.of(persistPost("강아지 산책"), persistPost("강아지 간식"), persistPost("강아지 미용"));
+        Long unmatched = persistPost("키워드 없는 글");
+
+        postCategorizer = newCategorizer(10);
+        postCategorizer.start();
+        await().atMost(TIMEOUT).until(() -> versionOf(unmatched) == 1L);
+
+        for (Long postId : pending) {
+            assertThat(versionOf(postId)).isEqualTo(1L);
+            assertThat(categoryIdsOf(postId)).containsExactly(categoryId);
+        }
+        // 일치하는 키워드가 없어도 버전이 올라가 다음 기동 시 다시 조회되지 않음
+        assertThat(categoryIdsOf(unmatched)).isEmpty();
+
+        assertThat(versionOf(edited)).isEqualTo(1L);
+        assertThat(versionOf(old)).isZero();
+        assertThat(versionOf(deleted)).isZero();
+        assertThat(categoryIdsOf(edited)).isEmpty();
+        assertThat(categoryIdsOf(old)).isEmpty();
+        assertThat(categoryIdsOf(deleted)).isEmpty();
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .map(event -> ((PostChangedEvent) event).getPostId())
+                .containsExactlyInAnyOrder(pending.get(0), pending.get(1), pending.get(2), unmatched);
+        assertThat(events.getAllValues())
+                .allMatch(event -> ((PostChangedEvent) event).getType() == PostChangedEvent.Type.CATEGORIZED);
+    }
+
+    @Test
+    void skipsPostEditedWhileQueued() {
+        Long edited = persistPost("강아지 글 작성 직후 수정");
+        Long fresh = persistPost("강아지 새 글");
+        // 기동 시 재처리 대상에서 빼 대기열 경로로만 처리되도록 함
+        jdbcTemplate.update("UPDATE community_posts SET created_at = ?", LocalDateTime.now().minusHours(48));
+        // 대기열에 있는 동안 수정되어 버전이 올라간 게시글
+        jdbcTemplate.update("UPDATE community_posts SET version = 1 WHERE id = ?", edited);
+
+        postCategorizer = newCategorizer(10);
+        postCategorizer.start();
+
+        postCategorizer.onCategorizationRequested(new PostCategorizationRequestedEvent(edited, "강아지 글 작성 직후 수정"));
+        postCategorizer.onCategorizationRequested(new PostCategorizationRequestedEvent(fresh, "강아지 새 글"));
+        await().atMost(TIMEOUT).until(() -> versionOf(fresh) == 1L);
+
+        assertThat(categoryIdsOf(fresh)).containsExactly(categoryId);
+        assertThat(versionOf(edited)).isEqualTo(1L);
+        assertThat(categoryIdsOf(edited)).isEmpty();
+    }
+
+    @Test
+    void categorizesOnRequestThreadWhenQueueIsFull() {
+        // 작업자를 시작하지 않아 첫 요청이 대기열(1건)을 채움
+        postCategorizer = newCategorizer(1);
+        Long queued = persistPost("강아지 대기 글");
+        Long inline = persistPost("강아지 바로 분류할 글");
+
+        postCategorizer.onCategorizationRequested(new PostCategorizationRequestedEvent(queued, "강아지 대기 글"));
+        postCategorizer.onCategorizationRequested(new PostCategorizationRequestedEvent(inline, "강아지 바로 분류할 글"));
+
+        assertThat(versionOf(inline)).isEqualTo(1L);
+        assertThat(categoryIdsOf(inline)).containsExactly(categoryId);
+        assertThat(versionOf(queued)).isZero();
+        assertThat(categoryIdsOf(queued)).isEmpty();
+    }
+
+    private PostCategorizer newCategorizer(int queueCapacity) {
+        return new PostCategorizer(postRepository, categoryPostCountBuffer, keywordExtractionService, jdbcTemplate,
+                eventPublisher, transactionManager, true, queueCapacity, 2, 1, 10L, 24L);
+    }
+
+    private Long persistPost(String content) {
+        return transactionTemplate.execute(status -> {
+            Post post = Post.builder()
+                    .content(content)
+                    .author(entityManager.getReference(User.class, author.getId()))
+                    .build();
+            entityManager.persist(post);
+            return post.getId();
+        });
+    }
+
+    private long versionOf(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM community_posts WHERE id = ?", Long.class, postId);
+    }
+
+    private List<Long> categoryIdsOf(Long postId) {
+        return jdbcTemplate.queryForList("SELECT category_id FROM post_categories WHERE post_id = ?", Long.class, postId);
+    }
+}
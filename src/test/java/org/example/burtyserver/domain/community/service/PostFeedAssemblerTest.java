@@ -0,0 +1,120 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.burtyserver.domain.community.model.dto.PostDto;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.entity.PostLike;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조립 시 실행되는 SQL 수가 페이지 크기와 무관한지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PostFeedAssembler.class, LikeStatusResolver.class})
+class PostFeedAssemblerTest {
+
+    // 목록 조회 + COUNT + 카테고리명 IN + 좋아요 여부 IN
+    private static final long FEED_STATEMENTS = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFeedAssembler postFeedAssembler;
+
+    private User reader;
+
+    @BeforeEach
+    void setUp() {
+        User author = persistUser("author@example.com");
+        reader = persistUser("reader@example.com");
+
+        BoardCategory seoul = BoardCategory.builder().name("서울").build();
+        BoardCategory it = BoardCategory.builder().name("IT개발").build();
+        entityManager.persist(seoul);
+        entityManager.persist(it);
+
+        for (int i = 0; i < 30; i++) {
+            Post post = Post.builder()
+                    .content("게시글 " + i)
+                    .author(author)
+                    .build();
+            post.setCategories(new HashSet<>(Set.of(seoul, it)));
+            entityManager.persist(post);
+
+            if (i % 2 == 0) {
+                entityManager.persist(PostLike.builder().post(post).user(reader).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void feedPageUsesFixedNumberOfStatements() {
+        assertThat(countStatements(5)).isEqualTo(FEED_STATEMENTS);
+        assertThat(countStatements(20)).isEqualTo(FEED_STATEMENTS);
+    }
+
+    @Test
+    void feedPageContainsCategoryNamesAndLikedFlag() {
+        Page<PostDto.ListResponse> page = postFeedAssembler.assemble(
+                postRepository.findFeedRows(PageRequest.of(0, 10, Sort.by("id"))), reader.getId());
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent().get(0).getCategoryNames()).containsExactlyInAnyOrder("서울", "IT개발");
+        assertThat(page.getContent().get(0).isLiked()).isTrue();
+        assertThat(page.getContent().get(1).isLiked()).isFalse();
+        assertThat(page.getContent().get(0).getAuthorName()).isEqualTo("author@example.com");
+    }
+
+    private long countStatements(int pageSize) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<PostDto.ListResponse> page = postFeedAssembler.assemble(
+                postRepository.findFeedRows(PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"))),
+                reader.getId());
+        assertThat(page.getContent()).hasSize(pageSize);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .name(email)
+                .role(User.Role.ROLE_USER)
+                .provider(User.AuthProvider.LOCAL)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
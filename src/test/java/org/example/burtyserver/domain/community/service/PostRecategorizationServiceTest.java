@@ -0,0 +1,267 @@
+package org.example.burtyserver.domain.community.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.burtyserver.domain.community.event.PostChangedEvent;
+import org.example.burtyserver.domain.community.model.dto.RecategorizationDto;
+import org.example.burtyserver.domain.community.model.entity.BoardCategory;
+import org.example.burtyserver.domain.community.model.entity.Post;
+import org.example.burtyserver.domain.community.model.entity.RecategorizationJob;
+import org.example.burtyserver.domain.community.model.repository.PostRepository;
+import org.example.burtyserver.domain.community.model.repository.RecategorizationJobRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 재분류 작업이 기록된 지점부터 재개하고, 살아 있는 작업은 선점하지 않으며, 읽은 뒤 수정된 게시글은 건너뛰는지 검증
+ * 작업은 별도 스레드에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증
+ * 카테고리 연결 INSERT 구문이 MySQL 전용이므로 H2 MySQL 호환 모드 사용
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:recategorize;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CategoryPostCountBuffer.class)
+class PostRecategorizationServiceTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String OTHER_INSTANCE = "other-instance";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private RecategorizationJobRepository jobRepository;
+
+    @Autowired
+    private CategoryPostCountBuffer categoryPostCountBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private KeywordExtractionService keywordExtractionService;
+    private ApplicationEventPublisher eventPublisher;
+    private PostRecategorizationService recategorizationService;
+    private User author;
+    private Long dogId;
+    private Long catId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        keywordExtractionService = mock(KeywordExtractionService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            author = User.builder()
+                    .email("author@example.com")
+                    .name("author")
+                    .role(User.Role.ROLE_USER)
+                    .provider(User.AuthProvider.LOCAL)
+                    .active(true)
+                    .build();
+            entityManager.persist(author);
+            BoardCategory dog = BoardCategory.builder().name("강아지").build();
+            BoardCategory cat = BoardCategory.builder().name("고양이").build();
+            entityManager.persist(dog);
+            entityManager.persist(cat);
+            dogId = dog.getId();
+            catId = cat.getId();
+        });
+        when(keywordExtractionService.extractCategoryIds(anyString())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).contains("강아지") ? Set.of(dogId) : Set.of());
+
+        // 청크 2건, 작업 스레드 2개
+        recategorizationService = new PostRecategorizationService(postRepository, categoryPostCountBuffer, jobRepository,
+                keywordExtractionService, jdbcTemplate, eventPublisher, transactionTemplate, 2, 2, 300_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recategorizationService.shutdown();
+        jdbcTemplate.update("DELETE FROM community_recategorize_jobs");
+        jdbcTemplate.update("DELETE FROM post_categories");
+        jdbcTemplate.update("DELETE FROM community_posts");
+        jdbcTemplate.update("DELETE FROM community_category_post_counts");
+        jdbcTemplate.update("DELETE FROM community_categories");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void resumesFromLastCheckpoint() {
+        List<Long> done = List.of(persistPost("강아지 산책"), persistPost("강아지 간식"));
+        // 고양이로 잘못 분류된 게시글 (재분류 시 고양이 제거, 강아지 추가)
+        Long miscategorized = persistPost("강아지 미용", catId);
+        List<Long> remaining = List.of(miscategorized, persistPost("강아지 훈련"), persistPost("강아지 사료"));
+        Long stoppedJobId = jobRepository.save(RecategorizationJob.builder()
+                .status(RecategorizationJob.Status.STOPPED)
+                .lastPostId(done.get(1))
+                .maxPostId(remaining.get(2))
+                .scannedPosts(2)
+                .build()).getId();
+
+        Optional<RecategorizationDto.Progress> started = recategorizationService.start(false);
+        assertThat(started).map(RecategorizationDto.Progress::getJobId).contains(stoppedJobId);
+        RecategorizationJob job = awaitFinished(stoppedJobId);
+
+        assertThat(job.getStatus()).isEqualTo(RecategorizationJob.Status.COMPLETED);
+        assertThat(job.getLastPostId()).isEqualTo(remaining.get(2));
+        assertThat(job.getScannedPosts()).isEqualTo(5);
+        assertThat(job.getChangedPosts()).isEqualTo(3);
+        assertThat(job.getAddedLinks()).isEqualTo(3);
+        assertThat(job.getRemovedLinks()).isEqualTo(1);
+
+        // 기록 지점 이전 게시글은 다시 처리하지 않음
+        for (Long postId : done) {
+            assertThat(categoryIdsOf(postId)).isEmpty();
+        }
+        for (Long postId : remaining) {
+            assertThat(categoryIdsOf(postId)).containsExactly(dogId);
+        }
+
+        List<PostChangedEvent> events = publishedEvents();
+        assertThat(events).map(PostChangedEvent::getPostId).containsExactlyInAnyOrderElementsOf(remaining);
+        assertThat(events).allMatch(event -> event.getType() == PostChangedEvent.Type.CATEGORIZED);
+        // 이전 카테고리와 새 카테고리 모두 캐시 무효화 대상
+        PostChangedEvent recategorized = events.stream()
+                .filter(event -> event.getPostId().equals(miscategorized))
+                .findFirst()
+                .orElseThrow();
+        assertThat(recategorized.getCategoryIds()).containsExactlyInAnyOrder(dogId, catId);
+        assertThat(recategorized.getCurrentCategoryIds()).containsExactly(dogId);
+    }
+
+    @Test
+    void doesNotClaimJobWithLiveHeartbeat() {
+        Long postId = persistPost("강아지 산책");
+        Long jobId = jobRepository.save(RecategorizationJob.builder()
+                .status(RecategorizationJob.Status.RUNNING)
+                .lastPostId(0L)
+                .maxPostId(postId)
+                .owner(OTHER_INSTANCE)
+                .heartbeatAt(LocalDateTime.now())
+                .build()).getId();
+
+        // 다른 인스턴스에서 실행 중이므로 재개도, 새로 시작도 하지 않음
+        assertThat(recategorizationService.start(false)).isEmpty();
+        assertThat(recategorizationService.start(true)).isEmpty();
+        assertThat(recategorizationService.getProgress().isRunning()).isTrue();
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(jobId, "this-instance", now, now.minusMinutes(5)));
+        assertThat(claimed).isZero();
+        assertThat(jobRepository.findById(jobId).orElseThrow().getOwner()).isEqualTo(OTHER_INSTANCE);
+        assertThat(jobRepository.count()).isEqualTo(1);
+        assertThat(categoryIdsOf(postId)).isEmpty();
+
+        // 하트비트가 끊긴 작업은 이어받아 완료
+        jdbcTemplate.update("UPDATE community_recategorize_jobs SET heartbeat_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(10), jobId);
+        assertThat(recategorizationService.getProgress().isRunning()).isFalse();
+        assertThat(recategorizationService.start(false)).map(RecategorizationDto.Progress::getJobId).contains(jobId);
+
+        RecategorizationJob job = awaitFinished(jobId);
+        assertThat(job.getStatus()).isEqualTo(RecategorizationJob.Status.COMPLETED);
+        assertThat(job.getOwner()).isNotEqualTo(OTHER_INSTANCE);
+        assertThat(categoryIdsOf(postId)).containsExactly(dogId);
+    }
+
+    @Test
+    void skipsPostsEditedAfterReading() {
+        Long kept = persistPost("강아지 산책");
+        Long edited = persistPost("강아지 글 재분류 중 수정");
+        // 키워드 매칭(트랜잭션 밖) 도중 사용자가 게시글을 수정해 버전이 올라간 상황
+        when(keywordExtractionService.extractCategoryIds("강아지 글 재분류 중 수정")).thenAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE community_posts SET version = version + 1 WHERE id = ?", edited);
+            return Set.of(dogId);
+        });
+
+        Long jobId = recategorizationService.start(true).orElseThrow().getJobId();
+        RecategorizationJob job = awaitFinished(jobId);
+
+        assertThat(job.getStatus()).isEqualTo(RecategorizationJob.Status.COMPLETED);
+        assertThat(job.getScannedPosts()).isEqualTo(2);
+        assertThat(job.getChangedPosts()).isEqualTo(1);
+
+        assertThat(categoryIdsOf(kept)).containsExactly(dogId);
+        assertThat(versionOf(kept)).isEqualTo(1L);
+        // 수정 시 이미 새 사전으로 분류되므로 재분류하지 않고 버전도 올리지 않음
+        assertThat(categoryIdsOf(edited)).isEmpty();
+        assertThat(versionOf(edited)).isEqualTo(1L);
+        assertThat(publishedEvents()).map(PostChangedEvent::getPostId).containsExactly(kept);
+    }
+
+    private RecategorizationJob awaitFinished(Long jobId) {
+        await().atMost(TIMEOUT).until(() -> jobRepository.findById(jobId)
+                .map(job -> job.getStatus() != RecategorizationJob.Status.RUNNING)
+                .orElse(false));
+        return jobRepository.findById(jobId).orElseThrow();
+    }
+
+    private List<PostChangedEvent> publishedEvents() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .map(PostChangedEvent.class::cast)
+                .toList();
+    }
+
+    private Long persistPost(String content, Long... categoryIds) {
+        return transactionTemplate.execute(status -> {
+            Post post = Post.builder()
+                    .content(content)
+                    .author(entityManager.getReference(User.class, author.getId()))
+                    .build();
+            if (categoryIds.length > 0) {
+                Set<BoardCategory> categories = new HashSet<>();
+                for (Long categoryId : categoryIds) {
+                    categories.add(entityManager.getReference(BoardCategory.class, categoryId));
+                }
+                post.setCategories(categories);
+            }
+            entityManager.persist(post);
+            return post.getId();
+        });
+    }
+
+    private long versionOf(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM community_posts WHERE id = ?", Long.class, postId);
+    }
+
+    private List<Long> categoryIdsOf(Long postId) {
+        return jdbcTemplate.queryForList("SELECT category_id FROM post_categories WHERE post_id = ?", Long.class, postId);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.burtyserver.domain.settlement.model.entity;
+
+import jakarta.persistence.EntityManager;
+import org.example.burtyserver.domain.settlement.model.dto.SettlementListResponse;
+import org.example.burtyserver.domain.settlement.model.repository.SettlementReportRepository;
+import org.example.burtyserver.domain.user.model.entity.User;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정착 리포트 목록 조회 시 추천 사유/절약 가능 금액 설명이 조회되지 않는지 검증 (바이트코드 향상 필요)
+ */
+@DataJpaTest
+class SettlementReportLazyFieldsTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SettlementReportRepository settlementReportRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email("user@example.com")
+                .name("user")
+                .role(User.Role.ROLE_USER)
+                .provider(User.AuthProvider.LOCAL)
+                .active(true)
+                .build();
+        entityManager.persist(user);
+
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(SettlementReport.builder()
+                    .user(user)
+                    .age(30)
+                    .desiredJob("개발자")
+                    .recommendedArea("지역 " + i)
+                    .recommendationReason("추천 사유 ".repeat(200))
+                    .savingPotential("절약 가능 금액 ".repeat(100))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void reportListDoesNotLoadLongTexts() {
+        List<SettlementReport> reports = settlementReportRepository.findByUserOrderByCreatedAtDesc(user);
+        List<SettlementListResponse> responses = reports.stream().map(SettlementListResponse::from).toList();
+
+        assertThat(responses).hasSize(3);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(Hibernate.isPropertyInitialized(report, "recommendationReason")).isFalse();
+            assertThat(Hibernate.isPropertyInitialized(report, "savingPotential")).isFalse();
+        });
+    }
+
+    @Test
+    void longTextsAreLoadedTogetherOnAccess() {
+        SettlementReport report = settlementReportRepository.findByUserOrderByCreatedAtDesc(user).get(0);
+
+        assertThat(report.getRecommendationReason()).startsWith("추천 사유");
+        assertThat(Hibernate.isPropertyInitialized(report, "savingPotential")).isTrue();
+    }
+}